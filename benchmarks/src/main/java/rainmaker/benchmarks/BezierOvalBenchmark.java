@@ -0,0 +1,42 @@
+package rainmaker.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import rainmaker.services.BezierOval;
+import rainmaker.services.RandomGenerator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building an outline the way a pond's is built, which every pond of a
+ * chunk goes through when the chunk loads
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BezierOvalBenchmark {
+    private final RandomGenerator random = new RandomGenerator(5);
+
+    @Benchmark
+    public BezierOval build() {
+        return new BezierOval.Builder(random, 25, 25)
+                .setStartAngle(0)
+                .setAngleIncrementMin(72)
+                .setAngleIncrementMax(72)
+                .setOverlapAngle(0)
+                .setMinOffsetFromOval(10)
+                .setMaxOffsetFromOval(20)
+                .setRandomizeControlAngle(true)
+                .build();
+    }
+}
@@ -0,0 +1,99 @@
+package rainmaker.benchmarks;
+
+import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.Shape;
+import javafx.scene.transform.Scale;
+import javafx.scene.transform.Translate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import rainmaker.gameobjects.BezierOvalView;
+import rainmaker.geometry.CollisionShape;
+import rainmaker.model.CloudModel;
+import rainmaker.model.HelicopterModel;
+import rainmaker.services.RandomGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the analytic collision test (CollisionShape) with the previous
+ * approach of calling Shape.intersect on every pair of JavaFX shapes, for a
+ * cloud against the helicopter's body at positions around it, roughly half
+ * of them touching it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CollisionBenchmark {
+    private static final int POSITIONS = 256;
+    private final double[] positions = new double[POSITIONS * 2];
+    private final List<Shape> cloudShapes = new ArrayList<>();
+    private CollisionShape cloudShape;
+    private CollisionShape bodyShape;
+    private Rectangle body;
+    private int position = 0;
+
+    @Setup
+    public void setup() {
+        RandomGenerator random = new RandomGenerator(7);
+        CloudModel cloud = CloudModel.createRandomCloud(random, true);
+        cloudShape = cloud.getCollisionShape();
+        bodyShape = CollisionShape.rectangle(
+                HelicopterModel.BODY_OFFSET_X, HelicopterModel.BODY_OFFSET_Y,
+                HelicopterModel.BODY_WIDTH, HelicopterModel.BODY_HEIGHT);
+
+        for (int i = 0; i < POSITIONS; i++) {
+            positions[i * 2] = cloud.getX() + random.getRandomDouble(-150, 150);
+            positions[i * 2 + 1] = cloud.getY() +
+                    random.getRandomDouble(-150, 150);
+        }
+
+        // The shapes the scene graph version was testing
+        BezierOvalView view = new BezierOvalView(cloud.getShape());
+        view.getChildren().forEach(node -> {
+            node.getTransforms().addAll(
+                    new Translate(cloud.getX(), cloud.getY()),
+                    new Scale(cloud.getScale(), cloud.getScale()));
+            cloudShapes.add((Shape) node);
+        });
+        body = new Rectangle(HelicopterModel.BODY_WIDTH,
+                HelicopterModel.BODY_HEIGHT);
+    }
+
+    @Benchmark
+    public boolean shapeIntersect() {
+        int p = nextPosition();
+        body.setX(positions[p] + HelicopterModel.BODY_OFFSET_X);
+        body.setY(positions[p + 1] + HelicopterModel.BODY_OFFSET_Y);
+        for (Shape other : cloudShapes) {
+            if (!Shape.intersect(body, other).getBoundsInLocal().isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean collisionShape() {
+        int p = nextPosition();
+        bodyShape.setTransform(positions[p], positions[p + 1], 0, 1);
+        return bodyShape.intersects(cloudShape);
+    }
+
+    private int nextPosition() {
+        position = (position + 1) % POSITIONS;
+        return position * 2;
+    }
+}
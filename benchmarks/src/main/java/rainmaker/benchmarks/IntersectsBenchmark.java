@@ -0,0 +1,50 @@
+package rainmaker.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import rainmaker.model.CloudModel;
+import rainmaker.services.RandomGenerator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ObjectModel.intersects over every pair of clouds spread over the world,
+ * so pairs range from far apart, which the bounds reject, to overlapping,
+ * which takes the polygon test. Fewer clouds overlap more often.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IntersectsBenchmark {
+    @Param({"16", "64"})
+    public int clouds;
+    private CloudModel[] models;
+    private int pair = 0;
+
+    @Setup
+    public void setup() {
+        RandomGenerator random = new RandomGenerator(3);
+        models = new CloudModel[clouds];
+        for (int i = 0; i < clouds; i++) {
+            models[i] = CloudModel.createRandomCloud(random, true);
+        }
+    }
+
+    @Benchmark
+    public boolean intersects() {
+        pair = (pair + 1) % (clouds * clouds);
+        return models[pair % clouds].intersects(models[pair / clouds]);
+    }
+}
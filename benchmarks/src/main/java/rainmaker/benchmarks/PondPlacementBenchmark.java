@@ -0,0 +1,95 @@
+package rainmaker.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import rainmaker.geometry.PoissonDisk;
+import rainmaker.model.PondModel;
+import rainmaker.model.SpatialGrid;
+import rainmaker.services.RandomGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares placing ponds MIN_DISTANCE apart by generating them anywhere and
+ * throwing away the ones too close to another, as ponds used to be placed,
+ * with Poisson disk sampling. The area is sized so that each pond has
+ * spacing by spacing of it, tighter spacings leave fewer spots free for the
+ * last ponds to land on.
+ * <p>
+ * Throwing ponds away is given up on after MAX_ATTEMPTS per pond, setup
+ * prints how many each side got to place. Every placement starts from a
+ * new seed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PondPlacementBenchmark {
+    private static final double MIN_DISTANCE = 200;
+    private static final int MAX_ATTEMPTS = 1_000;
+    @Param({"10", "100", "1000", "5000"})
+    public int count;
+    @Param({"400", "300", "250"})
+    public double spacing;
+    private double size;
+    private long seed = 0;
+
+    @Setup
+    public void setup() {
+        size = Math.sqrt(count) * spacing;
+        System.out.printf("%n%d ponds at %.0f: %d placed by rejection, %d " +
+                        "by Poisson disk%n", count, spacing, rejection(),
+                poisson());
+    }
+
+    @Benchmark
+    public int rejection() {
+        RandomGenerator random = new RandomGenerator(seed++);
+        SpatialGrid<PondModel> grid = new SpatialGrid<>(size, size,
+                SpatialGrid.DEFAULT_CELL_SIZE);
+        List<PondModel> nearby = new ArrayList<>();
+        int placed = 0;
+        for (int attempt = 0; placed < count &&
+                attempt < count * MAX_ATTEMPTS; attempt++) {
+            PondModel pond = PondModel.generatePond(random, 0, 0, size, size);
+            nearby.clear();
+            grid.queryRadius(pond.getCenterX(), pond.getCenterY(),
+                    MIN_DISTANCE, nearby);
+            boolean tooClose = false;
+            for (PondModel other : nearby) {
+                if (other.intersects(pond) ||
+                        other.distanceTo(pond) < MIN_DISTANCE) {
+                    tooClose = true;
+                    break;
+                }
+            }
+            if (tooClose) continue;
+            grid.add(pond);
+            placed++;
+        }
+        return placed;
+    }
+
+    @Benchmark
+    public int poisson() {
+        RandomGenerator random = new RandomGenerator(seed++);
+        return PoissonDisk.sample(random, 0, 0, size, size, MIN_DISTANCE,
+                count, (x, y) -> {
+                    PondModel.generatePond(random, x, y);
+                    return true;
+                });
+    }
+}
@@ -0,0 +1,129 @@
+package rainmaker.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import rainmaker.model.Input;
+import rainmaker.model.World;
+import rainmaker.model.WorldHistory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what keeping a WorldHistory costs: how much longer a tick takes
+ * with the state saved and encoded at the end of it, how many bytes a
+ * second of history takes, and how long rewinding takes for a short step
+ * back and for going back as far as the history goes.
+ * <p>
+ * The helicopter flies in circles and seeds, so the world keeps changing.
+ * Between rewinds the world flies on until the history is full again, and
+ * rewinds are sampled so their percentiles show.
+ */
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RewindBenchmark {
+    private static final int SETTLE_TICKS = 3600;
+    // Ticks between rewinds, enough for the history to fill up again
+    private static final int REWIND_EVERY = 700;
+
+    @State(Scope.Thread)
+    public static class Ticking {
+        @Param({"false", "true"})
+        public boolean history;
+        private World world;
+
+        @Setup
+        public void setup() {
+            world = new World(1);
+            if (history) world.setHistory(new WorldHistory(world));
+            fly(world, SETTLE_TICKS);
+        }
+
+        @TearDown
+        public void report() {
+            if (!history) return;
+            WorldHistory kept = world.getHistory();
+            System.out.printf("%nhistory: %.1f s in %d of %d bytes, %.0f " +
+                            "bytes per second%n", kept.getSeconds(),
+                    kept.getBytesUsed(), kept.getCapacity(),
+                    kept.getBytesPerSecond());
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Rewinding {
+        private World world;
+        private WorldHistory history;
+
+        @Setup
+        public void setup() {
+            world = new World(1);
+            history = new WorldHistory(world);
+            world.setHistory(history);
+            fly(world, SETTLE_TICKS);
+        }
+
+        @Setup(Level.Invocation)
+        public void refill() {
+            fly(world, REWIND_EVERY);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public double tick(Ticking state) {
+        fly(state.world, 1);
+        return state.world.getHelicopter().getFuel();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    public double rewindStep(Rewinding state) {
+        state.history.rewind(WorldHistory.REWIND_TICKS);
+        return state.world.getHelicopter().getFuel();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    public double rewindAll(Rewinding state) {
+        state.history.rewind(Integer.MAX_VALUE);
+        return state.world.getHelicopter().getFuel();
+    }
+
+    /**
+     * Goes on with the flight from the world's tick count, so it's the same
+     * however many ticks a call flies
+     */
+    private static void fly(World world, int ticks) {
+        for (int t = 0; t < ticks; t++) {
+            if (!world.getGameLoop().isRunning()) {
+                world.input(Input.RESET);
+                world.input(Input.START);
+            }
+            long i = world.getGameLoop().getTickCount();
+            switch ((int) (i % 600)) {
+                case 0 -> world.input(Input.TOGGLE_IGNITION);
+                case 200, 210, 220 -> world.input(Input.SPEED_UP);
+                default -> {
+                    if (i % 600 > 300 && i % 5 == 0) {
+                        world.input(Input.TURN_LEFT);
+                    }
+                    if (i % 50 == 0) world.input(Input.SEED_CLOUDS);
+                }
+            }
+            world.getGameLoop().tick();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package rainmaker.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import rainmaker.model.CloudModel;
+import rainmaker.model.PondModel;
+import rainmaker.model.SpatialGrid;
+import rainmaker.services.RandomGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares finding every overlapping cloud and pond pair by testing all of
+ * them against each other with finding them through a SpatialGrid, as the
+ * number of clouds and ponds grows. Both sides must find the same pairs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SpatialGridBenchmark {
+    @Param({"10", "100", "1000", "5000"})
+    public int count;
+    private final List<CloudModel> clouds = new ArrayList<>();
+    private final List<PondModel> ponds = new ArrayList<>();
+    private final SpatialGrid<PondModel> grid = new SpatialGrid<>();
+    private final List<PondModel> nearby = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+        RandomGenerator random = new RandomGenerator(count);
+        for (int i = 0; i < count; i++) {
+            clouds.add(CloudModel.createRandomCloud(random, true));
+            PondModel pond = PondModel.generatePond(random);
+            ponds.add(pond);
+            grid.add(pond);
+        }
+
+        int nestedPairs = nested();
+        int gridPairs = grid();
+        if (nestedPairs != gridPairs) {
+            throw new IllegalStateException("grid found " + gridPairs +
+                    " pairs instead of " + nestedPairs);
+        }
+    }
+
+    @Benchmark
+    public int nested() {
+        int pairs = 0;
+        for (CloudModel cloud : clouds) {
+            for (PondModel pond : ponds) {
+                if (cloud.boundsIntersect(pond)) pairs++;
+            }
+        }
+        return pairs;
+    }
+
+    @Benchmark
+    public int grid() {
+        int pairs = 0;
+        for (CloudModel cloud : clouds) {
+            nearby.clear();
+            grid.query(cloud, nearby);
+            for (PondModel pond : nearby) {
+                if (cloud.boundsIntersect(pond)) pairs++;
+            }
+        }
+        return pairs;
+    }
+}
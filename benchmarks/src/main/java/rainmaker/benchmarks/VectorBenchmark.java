@@ -0,0 +1,42 @@
+package rainmaker.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import rainmaker.services.Vector;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Vector arithmetic every moving object does each tick. Each result
+ * feeds the next operation, so none of them can be hoisted out of the loop.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VectorBenchmark {
+    private final Vector step = new Vector(0.5, -0.25);
+    private Vector vector = new Vector(1, 1);
+    private int angle = 0;
+
+    @Benchmark
+    public Vector addAndMultiply() {
+        vector = vector.add(step).multiply(0.999);
+        return vector;
+    }
+
+    @Benchmark
+    public double fromPolar() {
+        angle = (angle + 1) % 360;
+        return new Vector(angle, angle, true).getMagnitude();
+    }
+}
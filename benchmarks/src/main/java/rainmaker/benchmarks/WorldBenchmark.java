@@ -0,0 +1,94 @@
+package rainmaker.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import rainmaker.GameLoop;
+import rainmaker.model.CloudModel;
+import rainmaker.model.CloudsModel;
+import rainmaker.model.World;
+import rainmaker.model.WorldBounds;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full world ticks and the collections' updates on their own, in default
+ * sized worlds holding density times the usual ponds, clouds and blimps,
+ * that have been ticked for a minute so they have settled. Every benchmark
+ * gets a world of its own, and prints how much it holds.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WorldBenchmark {
+    private static final int SETTLE_TICKS = 3600;
+    // Ticks between saturating the clouds again, they rain out over time
+    private static final int RAIN_TICKS = 60;
+    @Param({"1", "10", "100"})
+    public int density;
+    private World world;
+
+    @Setup
+    public void setup() {
+        world = new World(11, new WorldBounds(World.WIDTH, World.HEIGHT,
+                density));
+        for (int i = 0; i < SETTLE_TICKS; i++) {
+            world.getGameLoop().tick();
+        }
+        if (world.getClouds().size() < density) {
+            throw new IllegalStateException("density " + density +
+                    " settled with only " + world.getClouds().size() +
+                    " clouds");
+        }
+        System.out.printf("%ndensity %d: %d ponds, %d clouds, %d blimps%n",
+                density, world.getPonds().size(), world.getClouds().size(),
+                world.getBlimps().size());
+    }
+
+    @Benchmark
+    public double tick() {
+        world.getGameLoop().tick();
+        return world.getHelicopter().getFuel();
+    }
+
+    /**
+     * Every cloud rains, so the interactions phase fills ponds every tick
+     */
+    @Benchmark
+    @OperationsPerInvocation(RAIN_TICKS)
+    public double tickRaining() {
+        CloudsModel clouds = world.getClouds();
+        for (int i = 0; i < clouds.size(); i++) {
+            CloudModel cloud = clouds.get(i);
+            while (cloud.getSaturation() < 100) cloud.saturate();
+        }
+        for (int i = 0; i < RAIN_TICKS; i++) {
+            world.getGameLoop().tick();
+        }
+        return world.getPonds().getAvgWaterLevel();
+    }
+
+    @Benchmark
+    public int cloudsUpdate() {
+        world.getClouds().update(GameLoop.TICK);
+        return world.getClouds().size();
+    }
+
+    @Benchmark
+    public int blimpsUpdate() {
+        world.getBlimps().update(GameLoop.TICK);
+        return world.getBlimps().size();
+    }
+}
@@ -0,0 +1,64 @@
+package rainmaker;
+
+import rainmaker.model.ObjectModel;
+import rainmaker.model.WorldBounds;
+
+/**
+ * The part of the world that is on screen. Keeps the point it follows in
+ * the middle of the view, except near the edges of the world, where it
+ * stops so that nothing beyond them is shown.
+ */
+public class Camera {
+    private final double viewWidth;
+    private final double viewHeight;
+    private final WorldBounds world;
+    private double minX = 0;
+    private double minY = 0;
+
+    public Camera(double viewWidth, double viewHeight, WorldBounds world) {
+        this.viewWidth = viewWidth;
+        this.viewHeight = viewHeight;
+        this.world = world;
+    }
+
+    public void follow(double x, double y) {
+        minX = clamp(x - viewWidth / 2, world.getWidth() - viewWidth);
+        minY = clamp(y - viewHeight / 2, world.getHeight() - viewHeight);
+    }
+
+    /**
+     * A world smaller than the view stays in its corner
+     */
+    private static double clamp(double value, double max) {
+        return Math.max(0, Math.min(max, value));
+    }
+
+    public double getMinX() {
+        return minX;
+    }
+
+    public double getMinY() {
+        return minY;
+    }
+
+    public double getMaxX() {
+        return minX + viewWidth;
+    }
+
+    public double getMaxY() {
+        return minY + viewHeight;
+    }
+
+    public boolean sees(double minX, double minY, double maxX, double maxY) {
+        return minX <= getMaxX() && maxX >= this.minX &&
+                minY <= getMaxY() && maxY >= this.minY;
+    }
+
+    /**
+     * Whether any part of the object's bounds is in view
+     */
+    public boolean sees(ObjectModel model) {
+        return sees(model.getMinX(), model.getMinY(), model.getMaxX(),
+                model.getMaxY());
+    }
+}
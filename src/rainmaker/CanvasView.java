@@ -0,0 +1,154 @@
+package rainmaker;
+
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import rainmaker.gameobjects.CanvasPainter;
+import rainmaker.model.*;
+
+/**
+ * Draws the world into a single canvas every pulse, straight from the
+ * models. There are no nodes per object to create, keep in step or bound,
+ * so spawning and dying cost the view nothing and the pulse stays the same
+ * size however much is on screen. Only what the camera sees is painted.
+ */
+public class CanvasView extends Canvas implements WorldView {
+    private final World world;
+    private final Camera camera;
+    private final CanvasPainter painter;
+    private boolean helicopterFlying = false;
+    private boolean showBoundingBoxes = false;
+    private boolean showDistanceLines = false;
+
+    public CanvasView(World world) {
+        super(Game.GAME_WIDTH, Game.GAME_HEIGHT);
+        this.world = world;
+        camera = new Camera(getWidth(), getHeight(), world.getBounds());
+        painter = new CanvasPainter(getGraphicsContext2D());
+    }
+
+    @Override
+    public Node getNode() {
+        return this;
+    }
+
+    @Override
+    public void toggleBoundingBoxes() {
+        showBoundingBoxes = !showBoundingBoxes;
+    }
+
+    @Override
+    public void toggleDistanceLines() {
+        showDistanceLines = !showDistanceLines;
+    }
+
+    @Override
+    public void helicopterFlying() {
+        helicopterFlying = true;
+    }
+
+    @Override
+    public void helicopterLanded() {
+        helicopterFlying = false;
+    }
+
+    @Override
+    public void gameLost() {
+        helicopterFlying = false;
+    }
+
+    @Override
+    public void reset() {
+        helicopterFlying = false;
+    }
+
+    /**
+     * Paints in the order the scene graph stacks its panes: the ground, then
+     * whatever is in the air, then the debug overlays
+     */
+    @Override
+    public void render() {
+        HelicopterModel helicopter = world.getHelicopter();
+        PondsModel ponds = world.getPonds();
+        CloudsModel clouds = world.getClouds();
+        BlimpsModel blimps = world.getBlimps();
+
+        camera.follow(helicopter.getX(), helicopter.getY());
+        GraphicsContext gc = getGraphicsContext2D();
+        gc.clearRect(0, 0, getWidth(), getHeight());
+        gc.save();
+        gc.translate(-camera.getMinX(), -camera.getMinY());
+
+        painter.background(world.getBounds(), camera);
+        for (int i = 0; i < ponds.size(); i++) {
+            PondModel pond = ponds.get(i);
+            if (camera.sees(pond)) painter.pond(pond);
+        }
+        if (camera.sees(world.getHelipad())) {
+            painter.helipad(world.getHelipad());
+        }
+        if (!helicopterFlying) painter.helicopter(helicopter);
+
+        for (int i = 0; i < clouds.size(); i++) {
+            CloudModel cloud = clouds.get(i);
+            if (camera.sees(cloud)) painter.cloud(cloud);
+        }
+        for (int i = 0; i < blimps.size(); i++) {
+            BlimpModel blimp = blimps.get(i);
+            if (camera.sees(blimp)) painter.blimp(blimp);
+        }
+        if (helicopterFlying) painter.helicopter(helicopter);
+
+        if (showBoundingBoxes) renderBoundingBoxes();
+        if (showDistanceLines) renderDistanceLines();
+        gc.restore();
+    }
+
+    private void boundingBox(ObjectModel model) {
+        if (camera.sees(model)) painter.boundingBox(model);
+    }
+
+    /**
+     * Drawn while either end is in view, like the scene graph's lines
+     */
+    private void distanceLine(ObjectModel model1, ObjectModel model2) {
+        if (camera.sees(model1) || camera.sees(model2)) {
+            painter.distanceLine(model1, model2);
+        }
+    }
+
+    private void renderBoundingBoxes() {
+        boundingBox(world.getHelicopter());
+        boundingBox(world.getHelipad());
+        PondsModel ponds = world.getPonds();
+        for (int i = 0; i < ponds.size(); i++) {
+            boundingBox(ponds.get(i));
+        }
+        CloudsModel clouds = world.getClouds();
+        for (int i = 0; i < clouds.size(); i++) {
+            boundingBox(clouds.get(i));
+        }
+        BlimpsModel blimps = world.getBlimps();
+        for (int i = 0; i < blimps.size(); i++) {
+            boundingBox(blimps.get(i));
+        }
+    }
+
+    /**
+     * The same pairs the scene graph draws lines for: every cloud with every
+     * pond, and the helicopter with every blimp
+     */
+    private void renderDistanceLines() {
+        PondsModel ponds = world.getPonds();
+        CloudsModel clouds = world.getClouds();
+        for (int i = 0; i < clouds.size(); i++) {
+            for (int j = 0; j < ponds.size(); j++) {
+                distanceLine(clouds.get(i), ponds.get(j));
+            }
+        }
+        BlimpsModel blimps = world.getBlimps();
+        for (int i = 0; i < blimps.size(); i++) {
+            distanceLine(world.getHelicopter(), blimps.get(i));
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package rainmaker;
+
+/**
+ * A view holding on to something the garbage collector can't reclaim by
+ * itself, like a playing MediaPlayer. Whoever removes the view from the
+ * scene has to dispose it, after which it must not be used again.
+ */
+public interface Disposable {
+    void dispose();
+}
@@ -0,0 +1,72 @@
+package rainmaker;
+
+import rainmaker.services.LatencyHistogram;
+
+/**
+ * Where the time of a frame goes: one histogram per GameLoop phase and one
+ * for whole ticks, filled by the loop, and one per part of a pulse, filled
+ * by whoever drives the loop and draws. Recording is a System.nanoTime()
+ * difference added to a histogram, it doesn't allocate.
+ */
+public class FrameProfiler {
+    /**
+     * The parts of a pulse, timed around the loop rather than inside it
+     */
+    public enum Section {
+        // From one pulse to the next, what the player sees as frame time
+        PULSE,
+        // Running the ticks the pulse covers
+        SIMULATION,
+        // Drawing and playing the state the ticks ended in
+        RENDER
+    }
+
+    private static final GameLoop.Phase[] PHASES = GameLoop.Phase.values();
+    private final LatencyHistogram[] phases =
+            new LatencyHistogram[PHASES.length];
+    private final LatencyHistogram ticks = new LatencyHistogram();
+    private final LatencyHistogram[] sections =
+            new LatencyHistogram[Section.values().length];
+
+    public FrameProfiler() {
+        for (int i = 0; i < phases.length; i++) {
+            phases[i] = new LatencyHistogram();
+        }
+        for (int i = 0; i < sections.length; i++) {
+            sections[i] = new LatencyHistogram();
+        }
+    }
+
+    public void record(GameLoop.Phase phase, long nanos) {
+        phases[phase.ordinal()].record(nanos);
+    }
+
+    public void recordTick(long nanos) {
+        ticks.record(nanos);
+    }
+
+    public void record(Section section, long nanos) {
+        sections[section.ordinal()].record(nanos);
+    }
+
+    public LatencyHistogram get(GameLoop.Phase phase) {
+        return phases[phase.ordinal()];
+    }
+
+    public LatencyHistogram getTicks() {
+        return ticks;
+    }
+
+    public LatencyHistogram get(Section section) {
+        return sections[section.ordinal()];
+    }
+
+    /**
+     * Starts every histogram over, for stats over a recent window only
+     */
+    public void reset() {
+        for (LatencyHistogram histogram : phases) histogram.reset();
+        for (LatencyHistogram histogram : sections) histogram.reset();
+        ticks.reset();
+    }
+}
@@ -1,240 +1,281 @@
 package rainmaker;
 
 import javafx.animation.AnimationTimer;
-import javafx.geometry.Bounds;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonType;
 import javafx.scene.layout.Pane;
-import rainmaker.gameobject_collections.*;
-import rainmaker.gameobjects.*;
-import rainmaker.services.Vector;
-
-import java.util.ArrayList;
-
-public class Game extends Pane {
-    public static final int GAME_WIDTH = 800;
-    public static final int GAME_HEIGHT = 800;
-    public static final double UNIVERSAL_SPEED_MULTIPLIER = 30;
-    private static final Game INSTANCE = new Game();
-    private final double PAD_RADIUS = GAME_WIDTH / 14;
-    private final Vector PAD_INIT_POS = new Vector(GAME_WIDTH / 2, 100);
-    private final Vector COPTER_INIT_POS = PAD_INIT_POS;
+import rainmaker.gameobject_collections.Soundscape;
+import rainmaker.gameobjects.ProfilerOverlay;
+import rainmaker.model.*;
+import rainmaker.replay.InputReplay;
+import rainmaker.services.AudioMixer;
+
+/**
+ * Shows a World and forwards the player's input to it. Everything that
+ * happens in the game is simulated by the World, drawn by a WorldView and
+ * heard through the Soundscape; this class only keeps them in step.
+ */
+public class Game extends Pane implements WorldListener {
+    // The window, which shows all of a default world and follows the
+    // helicopter around larger ones
+    public static final int GAME_WIDTH = World.WIDTH;
+    public static final int GAME_HEIGHT = World.HEIGHT;
+    private final World world;
+    private final AudioMixer mixer = new AudioMixer();
     private final AnimationTimer animationTimer;
-    private final Pane groundObjects = new Pane();
-    private final Pane airObjects = new Pane();
-    private final Clouds clouds;
-    private final Blimps blimps;
-    private final BoundingBoxPane boundingBoxes = new BoundingBoxPane();
-    private final DistanceLinesPane distanceLines = new DistanceLinesPane();
-    private final Wind wind = new Wind();
+    private final WorldView view;
+    private final Soundscape sounds;
+    private final FrameProfiler profiler = new FrameProfiler();
+    private final ProfilerOverlay profilerOverlay =
+            new ProfilerOverlay(profiler, GAME_HEIGHT);
+    private GameMetrics metrics;
+    private InputReplay replay;
     Runnable onCloseRequest;
-    private Helicopter helicopter;
-    private Helipad helipad;
-    private Ponds ponds;
 
-    private Game() {
+    /**
+     * The ways the world can be drawn
+     */
+    public enum Renderer {
+        // A group of nodes per object
+        SCENE_GRAPH,
+        // Every object painted into one canvas each pulse
+        CANVAS
+    }
+
+    public Game() {
+        this(new World());
+    }
+
+    public Game(World world) {
+        this(world, Renderer.SCENE_GRAPH);
+    }
+
+    public Game(World world, Renderer renderer) {
+        this.world = world;
         setScaleY(-1);
 
-        // Singletons, can be cleared on reset, no need to recreate
-        clouds = new Clouds();
-        blimps = new Blimps();
+        view = switch (renderer) {
+            case SCENE_GRAPH -> new SceneGraphView(world);
+            case CANVAS -> new CanvasView(world);
+        };
+        sounds = new Soundscape(world, mixer);
+        getChildren().addAll(view.getNode(), profilerOverlay);
+
+        world.setListener(this);
 
-        init();
+        // The world is new, only what shows it has to catch up
+        sounds.reset();
+        view.reset();
 
+        // The only timer in the game, it feeds real time to the loop and
+        // draws whatever state the loop ended up in
         animationTimer = new AnimationTimer() {
-            double old = -1;
-            int frameCount = 0;
+            long old = -1;
 
             @Override
             public void handle(long now) {
-                frameCount++;
                 if (old < 0) {
                     old = now;
                     return;
                 }
-                double FrameTime = (now - old) / 1e9;
+                double elapsed = (now - old) / 1e9;
+                long start = System.nanoTime();
+                // A stopped loop doesn't tick, the recorded restart has to
+                // come in from here
+                if (replay != null) replay.applyDue();
+                world.getGameLoop().advance(elapsed);
+                long simulated = System.nanoTime();
+                view.render();
+                sounds.render();
+                mixer.update(elapsed);
+                if (profilerOverlay.isVisible()) {
+                    profiler.record(FrameProfiler.Section.PULSE, now - old);
+                    profiler.record(FrameProfiler.Section.SIMULATION,
+                            simulated - start);
+                    profiler.record(FrameProfiler.Section.RENDER,
+                            System.nanoTime() - simulated);
+                    profilerOverlay.update(elapsed);
+                }
+                if (metrics != null) {
+                    metrics.recordFrame(now - old);
+                    metrics.update(elapsed);
+                }
                 old = now;
-                update(FrameTime);
             }
         };
 
         animationTimer.start();
     }
 
-    public static Game getInstance() {
-        return INSTANCE;
+    /**
+     * Applies the input to the world, resetting everything along with it
+     */
+    public void input(Input input) {
+        if (input == Input.RESET) {
+            init();
+        } else {
+            world.input(input);
+        }
+    }
+
+    /**
+     * Plays the replay's input instead of asking the player, its GameLoop
+     * has to be this game's
+     */
+    public void setReplay(InputReplay replay) {
+        this.replay = replay;
+        world.getGameLoop().setOnTickStart(replay::applyDue);
     }
 
     public void speedUpHelicopter() {
-        helicopter.speedUp();
+        world.input(Input.SPEED_UP);
     }
 
     public void speedDownHelicopter() {
-        helicopter.speedDown();
+        world.input(Input.SPEED_DOWN);
     }
 
     public void turnLeftHelicopter() {
-        helicopter.turnLeft();
+        world.input(Input.TURN_LEFT);
     }
 
     public void turnRightHelicopter() {
-        helicopter.turnRight();
+        world.input(Input.TURN_RIGHT);
     }
 
     public void toggleBoundingBoxes() {
-        boundingBoxes.toggleVisibility();
+        view.toggleBoundingBoxes();
     }
 
     public void toggleHelicopterIgnition() {
-        helicopter.toggleIgnition();
+        world.input(Input.TOGGLE_IGNITION);
     }
 
     public void toggleDistanceLines() {
-        distanceLines.toggleVisibility();
+        view.toggleDistanceLines();
     }
 
-    private void update(double frameTime) {
-        helicopter.update(frameTime);
-        ponds.update(frameTime);
-        fillPonds(frameTime);
-        checkBlimpHeliRefueling(frameTime);
-        provideBlimpsWithHeliDistance();
+    /**
+     * Shows or hides the frame timings, phases are only timed while they're
+     * shown
+     */
+    public void toggleProfiler() {
+        profilerOverlay.toggle();
+        world.getGameLoop().setProfiler(
+                profilerOverlay.isVisible() ? profiler : null);
+    }
 
-        // wind, clouds, and blimps have their own timers
+    /**
+     * Keeps the metrics up to date from now on
+     */
+    public void setMetrics(GameMetrics metrics) {
+        this.metrics = metrics;
     }
 
-    private void provideBlimpsWithHeliDistance() {
-        for (Blimp blimp : blimps) {
-            double distance = DistanceLine.getDistance(helicopter, blimp);
-            blimp.updateDistanceFromMainPlayer(distance);
-        }
+    public void seedClouds() {
+        world.input(Input.SEED_CLOUDS);
     }
 
-    private void checkBlimpHeliRefueling(double frameTime) {
-        for (Blimp blimp : blimps) {
-            boolean isOverBlimp = helicopter.intersects(blimp);
-            if (!isOverBlimp) {
-                blimp.isRefueling(false);
-                continue;
-            }
-            if (Math.abs(helicopter.getSpeed() - blimp.getSpeed()) > 0.5) {
-                blimp.isRefueling(false);
-                continue;
-            }
-            // also check if their heading angle is within 20 degrees
-            if (smallestDifferenceBetweenAngles(helicopter.getHeading(),
-                    blimp.getHeading()) > 20) {
-                blimp.isRefueling(false);
-                continue;
-            }
+    /**
+     * Goes back a little in time, if the world keeps its history
+     */
+    public void rewind() {
+        world.input(Input.REWIND);
+    }
 
-            double siphonedFuel = blimp.siphonFuel(frameTime * 1000);
-            helicopter.refuel(siphonedFuel);
-            blimp.isRefueling(true);
-        }
+    public GameLoop getGameLoop() {
+        return world.getGameLoop();
     }
 
-    private double smallestDifferenceBetweenAngles(double a, double b) {
-        double difference = Math.abs(a - b);
-        if (difference > 180) {
-            difference = 360 - difference;
-        }
-        return difference;
-    }
-
-    private void fillPonds(double frameTime) {
-        for (Cloud cloud : clouds) {
-            if (!cloud.isRaining()) continue;
-            for (Pond pond : ponds) {
-                int distance = (int) DistanceLine.getDistance(cloud, pond);
-                double pondDiameter = pond.getRadius() * 2;
-                double maxDistance = pondDiameter * 4;
-                if (distance >= maxDistance) continue;
-                double saturationProp =
-                        (double) cloud.getSaturation() / 100;
-                double distanceProp = 1 - (distance / maxDistance);
-                pond.addWater(distanceProp * saturationProp * frameTime * 2);
-            }
-        }
+    public AudioMixer getAudioMixer() {
+        return mixer;
     }
 
-    public void handleCloudAdded(Cloud cloud) {
-        boundingBoxes.add(cloud);
-        for (Pond pond : ponds) {
-            distanceLines.add(cloud, pond);
-        }
-        wind.registerObserver(cloud);
+    @Override
+    public void cloudAdded(CloudModel model) {
+        view.cloudAdded(model);
     }
 
-    public void handleCloudRemoved(Cloud cloud) {
-        boundingBoxes.removeFor(cloud);
-        distanceLines.removeIfInvolves(cloud);
-        wind.removeObserver(cloud);
+    @Override
+    public void cloudRemoved(CloudModel model) {
+        view.cloudRemoved(model);
     }
 
-    public void handleBlimpAdded(Blimp blimp) {
-        //draw distance lines between blimp and helicopter
-        distanceLines.add(helicopter, blimp);
-        boundingBoxes.add(blimp);
+    @Override
+    public void pondAdded(PondModel model) {
+        view.pondAdded(model);
     }
 
-    public void handleBlimpRemoved(Blimp blimp) {
-        //remove distance lines between blimp and helicopter
-        distanceLines.removeIfInvolves(blimp);
-        boundingBoxes.removeFor(blimp);
+    @Override
+    public void pondRemoved(PondModel model) {
+        view.pondRemoved(model);
     }
 
-    public void handleCopterFlying() {
-        //move the helicopter from the ground to the air pane
-        groundObjects.getChildren().remove(helicopter);
-        if (!airObjects.getChildren().contains(helicopter)) {
-            airObjects.getChildren().add(helicopter);
-        }
+    @Override
+    public void blimpAdded(BlimpModel model) {
+        view.blimpAdded(model);
+        sounds.blimpAdded(model);
     }
 
-    public void handleCopterCrash() {
-        //move the helicopter from the air to the ground pane
-        airObjects.getChildren().remove(helicopter);
-        if (!groundObjects.getChildren().contains(helicopter))
-            groundObjects.getChildren().add(helicopter);
+    @Override
+    public void blimpRemoved(BlimpModel model) {
+        view.blimpRemoved(model);
+        sounds.blimpRemoved(model);
+    }
 
-        animationTimer.stop();
-        String msg = "You Lost! Helicopter crashed! Would you like to play " +
-                "again?";
-        Alert alert = new Alert(Alert.AlertType.CONFIRMATION, msg,
-                ButtonType.YES, ButtonType.NO);
-        alert.setOnHidden(e -> {
-            if (alert.getResult() == ButtonType.YES) {
-                init();
-                animationTimer.start();
-            } else {
-                if (onCloseRequest != null) onCloseRequest.run();
-            }
-        });
-        alert.show();
+    @Override
+    public void helicopterFlying() {
+        view.helicopterFlying();
     }
 
-    public void handleCopterLanded() {
-        //move the helicopter from the air to the ground
-        airObjects.getChildren().remove(helicopter);
-        if (!groundObjects.getChildren().contains(helicopter))
-            groundObjects.getChildren().add(helicopter);
+    @Override
+    public void gameLost() {
+        view.gameLost();
 
-        // If the player decides to land before reach the desired score, they
-        // will have another chance to fly and seeding the clouds
-        if (ponds.getAvgWaterLevel() < 80) return;
+        String msg = "You Lost! Helicopter crashed! Would you like to play " +
+                "again?";
+        showPlayAgainAlert(msg);
+    }
 
-        animationTimer.stop();
+    @Override
+    public void helicopterLanded() {
+        view.helicopterLanded();
+    }
 
-        double score = (ponds.getAvgWaterLevel() / 100) * helicopter.getFuel();
+    @Override
+    public void gameWon(double score) {
         String msg = "You Win! Your score is " + (int) score + ". " +
                 "Would you like to play again?";
+        showPlayAgainAlert(msg);
+    }
+
+    @Override
+    public void worldRestored() {
+        sounds.reset();
+        view.reset();
+        CloudsModel clouds = world.getClouds();
+        for (int i = 0; i < clouds.size(); i++) {
+            view.cloudAdded(clouds.get(i));
+        }
+        BlimpsModel blimps = world.getBlimps();
+        for (int i = 0; i < blimps.size(); i++) {
+            blimpAdded(blimps.get(i));
+        }
+        if (world.getHelicopter().getStatus() == HelicopterModel.Status.READY) {
+            view.helicopterFlying();
+        }
+    }
+
+    private void showPlayAgainAlert(String msg) {
+        // Whether the game went on is up to the recording
+        if (replay != null) return;
+
         Alert alert = new Alert(Alert.AlertType.CONFIRMATION, msg,
                 ButtonType.YES, ButtonType.NO);
         alert.setOnHidden(e -> {
             if (alert.getResult() == ButtonType.YES) {
                 init();
-                animationTimer.start();
+                world.input(Input.START);
             } else {
                 if (onCloseRequest != null) onCloseRequest.run();
             }
@@ -243,52 +284,9 @@ public class Game extends Pane {
     }
 
     public void init() {
-        getChildren().clear();
-        groundObjects.getChildren().clear();
-        airObjects.getChildren().clear();
-
-        boundingBoxes.clear();
-        distanceLines.clear();
-
-        clouds.clear();
-        blimps.clear();
-
-        helipad = new Helipad(PAD_RADIUS, PAD_INIT_POS);
-
-        helicopter = new Helicopter(COPTER_INIT_POS, 25000);
-        helicopter.setOnCrash(this::handleCopterCrash);
-        helicopter.setOnLandedAction(this::handleCopterLanded);
-        helicopter.setLandingLocation(helipad);
-        helicopter.setOnFlyingAction(this::handleCopterFlying);
-
-        // A pond won't spawn on the helipad, can be used to add more obstacles
-        ArrayList<Bounds> pondObstacles = new ArrayList<>();
-        pondObstacles.add(helipad.getBoundsInParent());
-        ponds = new Ponds(pondObstacles);
-
-        ImageBackground background = new ImageBackground(GAME_WIDTH,
-                GAME_HEIGHT);
-
-
-        boundingBoxes.addAll(helicopter, helipad);
-        for (Pond pond : ponds) {
-            boundingBoxes.add(pond);
-        }
-
-        groundObjects.getChildren().addAll(background, ponds, helipad,
-                helicopter);
-        airObjects.getChildren().addAll(clouds, blimps);
-
-        getChildren().addAll(background, groundObjects, airObjects);
-        getChildren().addAll(boundingBoxes, distanceLines);
-    }
-
-    public void seedClouds() {
-        for (Cloud cloud : clouds) {
-            if (helicopter.intersects(cloud)) {
-                helicopter.seedCloud(cloud);
-            }
-        }
+        world.input(Input.RESET);
+        sounds.reset();
+        view.reset();
     }
 
     /**
@@ -1,33 +1,86 @@
 package rainmaker;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.scene.Scene;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.input.KeyCode;
+import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
+import rainmaker.model.World;
+import rainmaker.model.WorldBounds;
+import rainmaker.model.WorldHistory;
+import rainmaker.replay.InputRecorder;
+import rainmaker.replay.InputRecording;
+import rainmaker.replay.InputReplay;
+import rainmaker.services.Assets;
 import rainmaker.services.KeyPressTimer;
 import rainmaker.services.TimedKeysCollection;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
 public class GameApp extends Application {
     private Game game;
+    private GameMetrics metrics;
+    private InputRecorder recorder;
+    private boolean replaying = false;
     private TimedKeysCollection timedKeysCollection = new TimedKeysCollection();
     public static void main(String[] args) { launch(args); }
 
     @Override
     public void start(Stage stage) throws Exception {
-        game = Game.getInstance();
+        // Nothing in the game touches the disk once the assets are in
+        ProgressBar progress = new ProgressBar(0);
+        progress.setPrefWidth(Game.GAME_WIDTH / 2.0);
+        StackPane loading = new StackPane(progress);
+        stage.setScene(new Scene(loading, Game.GAME_WIDTH, Game.GAME_HEIGHT));
+        stage.setResizable(false);
+        stage.setTitle("Rain Maker");
+        stage.show();
+
+        Assets.preload(progress::setProgress).thenRun(() ->
+                Platform.runLater(() -> startGame(stage)));
+    }
+
+    private void startGame(Stage stage) {
+        InputRecording recording = readReplay();
+        replaying = recording != null;
+        World world = replaying ? recording.createWorld() : createWorld();
+        setupRecorder(world);
+        // --renderer=canvas draws into a single canvas instead of the
+        // scene graph
+        String renderer = getParameters().getNamed().getOrDefault("renderer",
+                Game.Renderer.SCENE_GRAPH.name());
+        game = new Game(world, Game.Renderer.valueOf(
+                renderer.toUpperCase().replace('-', '_')));
         game.setOnCloseRequest(stage::close);
+        setupMetrics(world);
 
-        setupHelicopterKeyTimers();
+        if (replaying) {
+            InputReplay inputReplay = new InputReplay(recording,
+                    world.getGameLoop(), game::input);
+            inputReplay.setOnFinished(() -> reportReplay(recording, world));
+            game.setReplay(inputReplay);
+        } else {
+            setupHelicopterKeyTimers();
+            game.getGameLoop().register(GameLoop.Phase.INPUT,
+                    timedKeysCollection);
+        }
 
         Scene scene = new Scene(game, Game.GAME_WIDTH, Game.GAME_HEIGHT);
 
         scene.setOnKeyPressed((event) -> {
             switch (event.getCode()) {
-                case R: game.init();                        break;
                 case B: game.toggleBoundingBoxes();         break;
                 case D: game.toggleDistanceLines();         break;
-                case I: game.toggleHelicopterIgnition();    break;
+                case P: game.toggleProfiler();              break;
                 case C: System.gc();                        break;
+                // The player can't interfere with a replay
+                case R: if (!replaying) game.init();                     break;
+                case I: if (!replaying) game.toggleHelicopterIgnition(); break;
+                case BACK_SPACE: if (!replaying) game.rewind();          break;
 
                 default: timedKeysCollection.keyPressed(event.getCode()); break;
             }
@@ -39,10 +92,107 @@ public class GameApp extends Application {
         });
 
         stage.setScene(scene);
-        stage.setResizable(false);
-        stage.setTitle("Rain Maker");
-        stage.show();
 
+        // --soak=<resets> restarts the game that many times and reports
+        // whatever is left behind
+        String soak = getParameters().getNamed().get("soak");
+        if (soak != null) {
+            new ViewSoakTest(game, Integer.parseInt(soak)).start();
+        }
+    }
+
+    /**
+     * --replay=<file> plays a recorded session again, in the world it was
+     * recorded in. Null if there is none to play.
+     */
+    private InputRecording readReplay() {
+        String replay = getParameters().getNamed().get("replay");
+        if (replay == null) return null;
+
+        try {
+            return InputRecording.read(Path.of(replay));
+        } catch (IOException e) {
+            System.err.println("Could not read the replay: " + e);
+            return null;
+        }
+    }
+
+    private World createWorld() {
+        // --seed=<number> replays the exact same world
+        String seed = getParameters().getNamed().get("seed");
+        long worldSeed = seed == null ? new SplittableRandom().nextLong() :
+                Long.parseLong(seed);
+        // --size=<width>x<height> plays on a world larger than the window
+        String size = getParameters().getNamed().get("size");
+        World world = new World(worldSeed, size == null ?
+                WorldBounds.DEFAULT : parseSize(size));
+        // Backspace goes back in it
+        world.setHistory(new WorldHistory(world));
+        return world;
+    }
+
+    /**
+     * --record=<file> records the session's input, for --replay or
+     * ReplayApp to play it again
+     */
+    private void setupRecorder(World world) {
+        String record = getParameters().getNamed().get("record");
+        if (record == null) return;
+
+        try {
+            recorder = new InputRecorder(Path.of(record), world);
+            world.setOnInput(recorder);
+        } catch (IOException e) {
+            System.err.println("Could not record input: " + e);
+        }
+    }
+
+    private static void reportReplay(InputRecording recording, World world) {
+        System.out.printf("Replay finished at tick %d, checksum %016x%n",
+                world.getGameLoop().getTickCount(), world.checksum());
+        if (recording.isComplete() &&
+                recording.getChecksum() != world.checksum()) {
+            System.out.printf("Recorded checksum was %016x%n",
+                    recording.getChecksum());
+        }
+    }
+
+    /**
+     * --metrics-port=<port> serves the game's metrics on localhost in the
+     * Prometheus text format, --metrics-csv=<file> appends them to a CSV
+     * file every second
+     */
+    private void setupMetrics(World world) {
+        String port = getParameters().getNamed().get("metrics-port");
+        String csv = getParameters().getNamed().get("metrics-csv");
+        if (port == null && csv == null) return;
+
+        metrics = new GameMetrics(world, game.getAudioMixer());
+        if (port != null) {
+            try {
+                metrics.serve(Integer.parseInt(port));
+            } catch (IOException e) {
+                System.err.println("Could not serve metrics: " + e);
+            }
+        }
+        if (csv != null) metrics.writeCsv(Path.of(csv));
+        game.setMetrics(metrics);
+    }
+
+    @Override
+    public void stop() {
+        if (metrics != null) metrics.dispose();
+        if (recorder != null) recorder.close();
+    }
+
+    private static WorldBounds parseSize(String size) {
+        String[] parts = size.toLowerCase().split("x");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Expected a size like " +
+                    "4000x3000, got " + size);
+        }
+        return new WorldBounds(Double.parseDouble(parts[0]),
+                Double.parseDouble(parts[1]));
     }
 
     /**
@@ -0,0 +1,203 @@
+package rainmaker;
+
+import rainmaker.jfr.PhaseEvent;
+import rainmaker.jfr.TickEvent;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Central scheduler for everything that changes over time. Real frame time is
+ * fed in through advance() and banked in an accumulator, which is then drained
+ * in fixed sized ticks. A slow frame therefore results in a few extra ticks of
+ * the usual size instead of one huge frameTime step.
+ * <p>
+ * Updatables run in the order of their Phase, and in registration order
+ * within a phase. With a FrameProfiler set, every phase of every tick is
+ * timed into it, and while the flight recorder records TickEvents or
+ * PhaseEvents they are emitted for every tick.
+ * <p>
+ * Whatever is set with setOnTickStart runs at the very start of every tick,
+ * before the schedule is taken, so it can feed in input that registers or
+ * unregisters updatables, as a reset does.
+ */
+public class GameLoop {
+    public static final double TICKS_PER_SECOND = 60;
+    public static final double TICK = 1 / TICKS_PER_SECOND;
+
+    // Upper bound on catch-up work after a long stall (window drag, alert,
+    // GC); anything beyond it is dropped instead of replayed
+    private static final int MAX_TICKS_PER_ADVANCE = 5;
+
+    public enum Phase {
+        INPUT, ENVIRONMENT, PLAYER, SPAWNERS, TERRAIN, INTERACTIONS,
+        // Sees the tick's outcome, after everything in it has happened
+        HISTORY
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final Map<Phase, List<Updatable>> registered =
+            new EnumMap<>(Phase.class);
+    private Updatable[] schedule = new Updatable[0];
+    // Index in the schedule where each phase ends
+    private int[] phaseEnds = new int[PHASES.length];
+    private boolean scheduleDirty = false;
+    private double accumulator = 0;
+    private boolean running = true;
+    private long tickCount = 0;
+    private FrameProfiler profiler;
+    private Runnable onTickStart;
+
+    public GameLoop() {
+        for (Phase phase : Phase.values()) {
+            registered.put(phase, new ArrayList<>());
+        }
+    }
+
+    /**
+     * Times every phase of every tick into the profiler, none if null
+     */
+    public void setProfiler(FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * Runs the Runnable at the start of every tick, none if null
+     */
+    public void setOnTickStart(Runnable onTickStart) {
+        this.onTickStart = onTickStart;
+    }
+
+    public void register(Phase phase, Updatable updatable) {
+        registered.get(phase).add(updatable);
+        scheduleDirty = true;
+    }
+
+    public void unregister(Updatable updatable) {
+        for (List<Updatable> updatables : registered.values()) {
+            if (updatables.remove(updatable)) scheduleDirty = true;
+        }
+    }
+
+    /**
+     * Number of updatables registered over all phases
+     */
+    public int getRegisteredCount() {
+        int count = 0;
+        for (List<Updatable> updatables : registered.values()) {
+            count += updatables.size();
+        }
+        return count;
+    }
+
+    /**
+     * Banks the given real time and runs as many fixed ticks as it covers.
+     * Returns the number of ticks that were run.
+     */
+    public int advance(double elapsedSeconds) {
+        if (!running) return 0;
+
+        accumulator += elapsedSeconds;
+        int ticks = 0;
+        while (running && accumulator >= TICK) {
+            if (ticks == MAX_TICKS_PER_ADVANCE) {
+                accumulator = 0;
+                break;
+            }
+            accumulator -= TICK;
+            tick();
+            ticks++;
+        }
+        return ticks;
+    }
+
+    /**
+     * Runs exactly one fixed tick regardless of the accumulator
+     */
+    public void tick() {
+        if (onTickStart != null) onTickStart.run();
+        if (scheduleDirty) rebuildSchedule();
+
+        // The schedule is a snapshot, so (un)registering from inside an
+        // update takes effect on the next tick
+        Updatable[] current = schedule;
+        if (profiler == null && !TickEvent.isTypeEnabled() &&
+                !PhaseEvent.isTypeEnabled()) {
+            for (Updatable updatable : current) {
+                updatable.update(TICK);
+            }
+        } else {
+            tickTimed(current, phaseEnds);
+        }
+        tickCount++;
+    }
+
+    private void tickTimed(Updatable[] current, int[] ends) {
+        TickEvent tickEvent = null;
+        if (TickEvent.isTypeEnabled()) {
+            tickEvent = new TickEvent();
+            tickEvent.begin();
+        }
+        long tickStart = System.nanoTime();
+        long phaseStart = tickStart;
+        int i = 0;
+        for (Phase phase : PHASES) {
+            PhaseEvent phaseEvent = null;
+            if (PhaseEvent.isTypeEnabled()) {
+                phaseEvent = new PhaseEvent();
+                phaseEvent.begin();
+            }
+            for (; i < ends[phase.ordinal()]; i++) {
+                current[i].update(TICK);
+            }
+            long now = System.nanoTime();
+            if (profiler != null) profiler.record(phase, now - phaseStart);
+            phaseStart = now;
+            if (phaseEvent != null && phaseEvent.shouldCommit()) {
+                phaseEvent.phase = phase.name();
+                phaseEvent.tick = tickCount;
+                phaseEvent.commit();
+            }
+        }
+        if (profiler != null) profiler.recordTick(phaseStart - tickStart);
+        if (tickEvent != null && tickEvent.shouldCommit()) {
+            tickEvent.tick = tickCount;
+            tickEvent.commit();
+        }
+    }
+
+    private void rebuildSchedule() {
+        List<Updatable> ordered = new ArrayList<>();
+        int[] ends = new int[PHASES.length];
+        for (Phase phase : PHASES) {
+            ordered.addAll(registered.get(phase));
+            ends[phase.ordinal()] = ordered.size();
+        }
+        schedule = ordered.toArray(new Updatable[0]);
+        phaseEnds = ends;
+        scheduleDirty = false;
+    }
+
+    /**
+     * Stops ticking, including any ticks still owed from the current advance
+     */
+    public void stop() {
+        running = false;
+    }
+
+    public void start() {
+        accumulator = 0;
+        running = true;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+}
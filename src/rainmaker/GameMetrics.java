@@ -0,0 +1,132 @@
+package rainmaker;
+
+import rainmaker.metrics.CsvMetricsWriter;
+import rainmaker.metrics.MetricsRegistry;
+import rainmaker.metrics.MetricsServer;
+import rainmaker.model.World;
+import rainmaker.model.WorldHistory;
+import rainmaker.services.AudioMixer;
+import rainmaker.services.LatencyHistogram;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+
+/**
+ * Telemetry of a running game: tick rate, frame times, how many objects
+ * each collection holds, how much the game thread allocates per tick and
+ * how many audio voices are playing, and how much history the world keeps
+ * for rewinding and how fast it seeks. Frames are recorded by the Game as
+ * they happen, everything else is read once every SAMPLE_INTERVAL on the
+ * game's thread and handed to the metrics server and the CSV file as text.
+ */
+public class GameMetrics implements Disposable {
+    private static final double SAMPLE_INTERVAL = 1;
+    // Frame time buckets in seconds, around the 16.7 ms of a 60 Hz frame
+    private static final double[] FRAME_BUCKETS = {0.004, 0.008, 0.0167,
+            0.025, 0.0333, 0.05, 0.1, 0.25, 1};
+    private static final double[] SEEK_BUCKETS = {0.00005, 0.0001, 0.00025,
+            0.0005, 0.001, 0.0025, 0.005, 0.01};
+    private static final long CSV_MAX_BYTES = 10 * 1024 * 1024;
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean)
+                    ManagementFactory.getThreadMXBean();
+    private final World world;
+    private final MetricsRegistry registry = new MetricsRegistry();
+    private final LatencyHistogram frames = new LatencyHistogram();
+    private MetricsServer server;
+    private CsvMetricsWriter csv;
+    private double elapsed = 0;
+    private long lastTicks;
+    private long lastAllocated;
+    private double ticksPerSecond = 0;
+    private double bytesPerTick = 0;
+
+    public GameMetrics(World world, AudioMixer mixer) {
+        this.world = world;
+        lastTicks = world.getGameLoop().getTickCount();
+        lastAllocated = allocatedBytes();
+
+        registry.counter("rainmaker_ticks_total", "Ticks run",
+                () -> world.getGameLoop().getTickCount());
+        registry.gauge("rainmaker_ticks_per_second",
+                "Ticks run per second over the last sample",
+                () -> ticksPerSecond);
+        registry.histogram("rainmaker_frame_seconds",
+                "Time between pulses", frames, FRAME_BUCKETS);
+        registry.gauge("rainmaker_clouds", "Clouds in the world",
+                () -> world.getClouds().size());
+        registry.gauge("rainmaker_ponds", "Ponds in loaded chunks",
+                () -> world.getPonds().size());
+        registry.gauge("rainmaker_blimps", "Blimps in the world",
+                () -> world.getBlimps().size());
+        registry.gauge("rainmaker_loaded_chunks", "Chunks loaded",
+                () -> world.getChunks().getLoadedCount());
+        registry.gauge("rainmaker_allocated_bytes_per_tick",
+                "Bytes the game thread allocated per tick over the last " +
+                        "sample, rendering included",
+                () -> bytesPerTick);
+        registry.gauge("rainmaker_audio_voices_in_use",
+                "Audio voices playing a sound", mixer::getVoicesInUse);
+        registry.gauge("rainmaker_audio_voices", "Audio voices in the mixer",
+                mixer::getVoiceCount);
+
+        WorldHistory history = world.getHistory();
+        if (history == null) return;
+        registry.gauge("rainmaker_history_seconds",
+                "Seconds of history kept for rewinding", history::getSeconds);
+        registry.gauge("rainmaker_history_bytes",
+                "Bytes the history takes in its buffer",
+                history::getBytesUsed);
+        registry.gauge("rainmaker_history_bytes_per_second",
+                "Bytes a second of history takes", history::getBytesPerSecond);
+        registry.histogram("rainmaker_rewind_seek_seconds",
+                "Time a rewind took to decode and restore the world",
+                history.getSeekLatency(), SEEK_BUCKETS);
+    }
+
+    /**
+     * Serves the metrics at http://localhost:port/metrics
+     */
+    public void serve(int port) throws IOException {
+        server = new MetricsServer(port);
+    }
+
+    /**
+     * Appends the metrics to a CSV file every sample
+     */
+    public void writeCsv(Path path) {
+        csv = new CsvMetricsWriter(path, CSV_MAX_BYTES, registry.csvHeader());
+    }
+
+    public void recordFrame(long nanos) {
+        frames.record(nanos);
+    }
+
+    public void update(double elapsedSeconds) {
+        elapsed += elapsedSeconds;
+        if (elapsed < SAMPLE_INTERVAL) return;
+
+        long ticks = world.getGameLoop().getTickCount();
+        long allocated = allocatedBytes();
+        ticksPerSecond = (ticks - lastTicks) / elapsed;
+        bytesPerTick = ticks == lastTicks ? 0 :
+                (double) (allocated - lastAllocated) / (ticks - lastTicks);
+        lastTicks = ticks;
+        lastAllocated = allocated;
+        elapsed = 0;
+
+        if (server != null) server.publish(registry.scrape());
+        if (csv != null) csv.append(registry.csvRow(System.currentTimeMillis()));
+    }
+
+    private static long allocatedBytes() {
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    @Override
+    public void dispose() {
+        if (server != null) server.close();
+        if (csv != null) csv.close();
+    }
+}
@@ -0,0 +1,48 @@
+package rainmaker;
+
+import rainmaker.model.ParallelWorlds;
+import rainmaker.model.World;
+
+import java.util.SplittableRandom;
+
+/**
+ * Runs the simulation without a window, as fast as it will go, and reports
+ * how many ticks per second it managed. Needs no JavaFX at all.
+ * <p>
+ * Prints the seed and a checksum of every world at the end, running again
+ * with the same seed must give the same checksums.
+ * <p>
+ * Usage: HeadlessApp [ticks per world] [worlds] [threads] [seed]
+ */
+public class HeadlessApp {
+    private static final long DEFAULT_TICKS = 100_000;
+
+    public static void main(String[] args) {
+        long ticks = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_TICKS;
+        int worldCount = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) :
+                Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 3 ? Long.parseLong(args[3]) :
+                new SplittableRandom().nextLong();
+
+        try (ParallelWorlds worlds = new ParallelWorlds(worldCount, threads,
+                seed)) {
+            long start = System.nanoTime();
+            worlds.step(ticks);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            long totalTicks = ticks * worldCount;
+            System.out.printf("%d worlds x %d ticks on %d threads in %.2fs: " +
+                            "%.0f ticks/s (%.0fx real time)%n",
+                    worldCount, ticks, worlds.getParallelism(), seconds,
+                    totalTicks / seconds,
+                    totalTicks / seconds / GameLoop.TICKS_PER_SECOND);
+
+            System.out.println("seed " + seed);
+            for (World world : worlds.getWorlds()) {
+                System.out.printf("world %016x checksum %016x%n",
+                        world.getSeed(), world.checksum());
+            }
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package rainmaker;
+
+/**
+ * A view that copies the current state of its model onto the screen. Called
+ * once per pulse, after the game loop has ticked.
+ */
+public interface Renderable {
+    void render();
+}
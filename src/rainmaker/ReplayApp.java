@@ -0,0 +1,61 @@
+package rainmaker;
+
+import rainmaker.model.World;
+import rainmaker.replay.InputRecording;
+import rainmaker.replay.InputReplay;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Plays a session recorded with GameApp --record=<file> without a window,
+ * as fast as it will go, and checks that it ends the way the session did.
+ * Needs no JavaFX at all. Running it more than once reports the fastest
+ * run, to compare the speed of two trees on the same session.
+ * <p>
+ * Exits with 1 if the world ends with a checksum other than the recorded
+ * one.
+ * <p>
+ * Usage: ReplayApp <recording> [runs]
+ */
+public class ReplayApp {
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: ReplayApp <recording> [runs]");
+            System.exit(2);
+        }
+        InputRecording recording = InputRecording.read(Path.of(args[0]));
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+
+        long best = Long.MAX_VALUE;
+        World world = null;
+        for (int run = 0; run < runs; run++) {
+            world = recording.createWorld();
+            InputReplay replay = new InputReplay(recording,
+                    world.getGameLoop(), world::input);
+            long start = System.nanoTime();
+            replay.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        long ticks = world.getGameLoop().getTickCount();
+        double seconds = best / 1e9;
+        System.out.printf("%d inputs over %d ticks in %.3fs: %.0f ticks/s " +
+                        "(%.0fx real time)%n", recording.size(), ticks,
+                seconds, ticks / seconds,
+                ticks / seconds / GameLoop.TICKS_PER_SECOND);
+        System.out.printf("seed %d checksum %016x%n", recording.getSeed(),
+                world.checksum());
+        if (!recording.isComplete()) {
+            System.out.println("The recording was cut off, nothing to " +
+                    "check against");
+        } else if (recording.getChecksum() != world.checksum()) {
+            System.out.printf("DIVERGED, the session ended with checksum " +
+                    "%016x at tick %d%n", recording.getChecksum(),
+                    recording.getEndTick());
+            System.exit(1);
+        } else {
+            System.out.println("matches the recorded session");
+        }
+    }
+}
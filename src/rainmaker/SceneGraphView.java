@@ -0,0 +1,176 @@
+package rainmaker;
+
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+import rainmaker.gameobject_collections.*;
+import rainmaker.gameobjects.*;
+import rainmaker.model.BlimpModel;
+import rainmaker.model.CloudModel;
+import rainmaker.model.HelicopterModel;
+import rainmaker.model.PondModel;
+import rainmaker.model.World;
+
+/**
+ * Draws the world with one group of nodes per object, kept in step with the
+ * models as they spawn, move and die. Everything is laid out in world
+ * coordinates and moved under the camera as a whole; objects out of view are
+ * hidden and not rendered until they come back.
+ */
+public class SceneGraphView extends Pane implements WorldView {
+    private final World world;
+    private final Camera camera;
+    private final Pane content = new Pane();
+    private final Pane groundObjects = new Pane();
+    private final Pane airObjects = new Pane();
+    private final Clouds clouds = new Clouds();
+    private final Blimps blimps = new Blimps();
+    private final BoundingBoxPane boundingBoxes = new BoundingBoxPane();
+    private final DistanceLinesPane distanceLines = new DistanceLinesPane();
+    private ImageBackground background;
+    private Helicopter helicopter;
+    private Helipad helipad;
+    private Ponds ponds;
+
+    public SceneGraphView(World world) {
+        this.world = world;
+        camera = new Camera(Game.GAME_WIDTH, Game.GAME_HEIGHT,
+                world.getBounds());
+        getChildren().add(content);
+    }
+
+    @Override
+    public Node getNode() {
+        return this;
+    }
+
+    @Override
+    public void toggleBoundingBoxes() {
+        boundingBoxes.toggleVisibility();
+    }
+
+    @Override
+    public void toggleDistanceLines() {
+        distanceLines.toggleVisibility();
+    }
+
+    @Override
+    public void render() {
+        HelicopterModel model = world.getHelicopter();
+        camera.follow(model.getX(), model.getY());
+        content.setTranslateX(-camera.getMinX());
+        content.setTranslateY(-camera.getMinY());
+
+        background.render(camera);
+        helicopter.render();
+        ponds.render(camera);
+        clouds.render(camera);
+        blimps.render(camera);
+        boundingBoxes.render();
+        distanceLines.render();
+    }
+
+    @Override
+    public void cloudAdded(CloudModel model) {
+        Cloud cloud = clouds.spawn(model);
+        boundingBoxes.add(cloud);
+        for (Pond pond : ponds) {
+            distanceLines.add(cloud, pond);
+        }
+    }
+
+    @Override
+    public void cloudRemoved(CloudModel model) {
+        Cloud cloud = clouds.despawn(model);
+        if (cloud == null) return;
+        boundingBoxes.removeFor(cloud);
+        distanceLines.removeIfInvolves(cloud);
+    }
+
+    @Override
+    public void pondAdded(PondModel model) {
+        Pond pond = ponds.spawn(model);
+        boundingBoxes.add(pond);
+        for (Cloud cloud : clouds) {
+            distanceLines.add(cloud, pond);
+        }
+    }
+
+    @Override
+    public void pondRemoved(PondModel model) {
+        Pond pond = ponds.despawn(model);
+        if (pond == null) return;
+        boundingBoxes.removeFor(pond);
+        distanceLines.removeIfInvolves(pond);
+    }
+
+    @Override
+    public void blimpAdded(BlimpModel model) {
+        Blimp blimp = blimps.spawn(model);
+        //draw distance lines between blimp and helicopter
+        distanceLines.add(helicopter, blimp);
+        boundingBoxes.add(blimp);
+    }
+
+    @Override
+    public void blimpRemoved(BlimpModel model) {
+        Blimp blimp = blimps.despawn(model);
+        if (blimp == null) return;
+        //remove distance lines between blimp and helicopter
+        distanceLines.removeIfInvolves(blimp);
+        boundingBoxes.removeFor(blimp);
+    }
+
+    @Override
+    public void helicopterFlying() {
+        //move the helicopter from the ground to the air pane
+        groundObjects.getChildren().remove(helicopter);
+        if (!airObjects.getChildren().contains(helicopter)) {
+            airObjects.getChildren().add(helicopter);
+        }
+    }
+
+    @Override
+    public void helicopterLanded() {
+        //move the helicopter from the air to the ground
+        airObjects.getChildren().remove(helicopter);
+        if (!groundObjects.getChildren().contains(helicopter))
+            groundObjects.getChildren().add(helicopter);
+    }
+
+    @Override
+    public void gameLost() {
+        helicopterLanded();
+    }
+
+    @Override
+    public void reset() {
+        content.getChildren().clear();
+        groundObjects.getChildren().clear();
+        airObjects.getChildren().clear();
+
+        boundingBoxes.clear();
+        distanceLines.clear();
+
+        clouds.clear();
+        blimps.clear();
+
+        helipad = new Helipad(world.getHelipad());
+        helicopter = new Helicopter(world.getHelicopter());
+        ponds = new Ponds(world.getPonds());
+
+        background = new ImageBackground(world.getBounds(), Game.GAME_WIDTH,
+                Game.GAME_HEIGHT);
+
+        boundingBoxes.addAll(helicopter, helipad);
+        for (Pond pond : ponds) {
+            boundingBoxes.add(pond);
+        }
+
+        groundObjects.getChildren().addAll(background, ponds, helipad,
+                helicopter);
+        airObjects.getChildren().addAll(clouds, blimps);
+
+        content.getChildren().addAll(background, groundObjects, airObjects);
+        content.getChildren().addAll(boundingBoxes, distanceLines);
+    }
+}
@@ -0,0 +1,78 @@
+package rainmaker;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+
+/**
+ * Soak test of the views: restarts the game over and over, running a minute
+ * of simulation between restarts so that clouds and blimps come and go, and
+ * prints the retained heap, the number of nodes in the scene and the sound
+ * sources registered with the audio mixer. Over a long run none of them
+ * should keep growing. Quits the application when done.
+ * <p>
+ * Started with GameApp --soak=[resets]. The helicopter is never started, so
+ * the game can't end and bring up its dialog.
+ */
+public class ViewSoakTest extends AnimationTimer {
+    private static final long TICKS_PER_RESET =
+            (long) (60 * GameLoop.TICKS_PER_SECOND);
+    private static final int REPORTS = 10;
+    private final Game game;
+    private final int resets;
+    private int reset = 0;
+
+    public ViewSoakTest(Game game, int resets) {
+        this.game = game;
+        this.resets = resets;
+    }
+
+    @Override
+    public void start() {
+        System.out.printf("%8s %12s %8s %8s%n", "resets", "heap KiB",
+                "nodes", "sources");
+        super.start();
+    }
+
+    /**
+     * One reset per pulse, so that the scene gets drawn in between
+     */
+    @Override
+    public void handle(long now) {
+        game.init();
+        GameLoop loop = game.getGameLoop();
+        loop.start();
+        for (long i = 0; i < TICKS_PER_RESET; i++) loop.tick();
+        reset++;
+
+        if (reset % Math.max(1, resets / REPORTS) == 0) {
+            System.out.printf("%8d %12d %8d %8d%n", reset,
+                    retainedHeap() / 1024, countNodes(game),
+                    game.getAudioMixer().getSourceCount());
+        }
+
+        if (reset < resets) return;
+        stop();
+        game.init();
+        System.out.printf("after a final reset: %d nodes, %d sources%n",
+                countNodes(game), game.getAudioMixer().getSourceCount());
+        Platform.exit();
+    }
+
+    private static long retainedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+}
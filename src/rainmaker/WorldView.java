@@ -0,0 +1,23 @@
+package rainmaker;
+
+import javafx.scene.Node;
+import rainmaker.model.WorldListener;
+
+/**
+ * One way of drawing a World. The game forwards the world's events to it,
+ * renders it once per pulse and shows its node; which implementation is used
+ * is picked when the game starts.
+ */
+public interface WorldView extends Renderable, WorldListener {
+    Node getNode();
+
+    /**
+     * Starts over from the world's current state, called right after the
+     * world was reset
+     */
+    void reset();
+
+    void toggleBoundingBoxes();
+
+    void toggleDistanceLines();
+}
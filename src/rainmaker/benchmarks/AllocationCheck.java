@@ -0,0 +1,108 @@
+package rainmaker.benchmarks;
+
+import rainmaker.GameLoop;
+import rainmaker.model.BlimpModel;
+import rainmaker.model.CloudModel;
+import rainmaker.model.HelicopterModel;
+import rainmaker.model.World;
+import rainmaker.services.RandomGenerator;
+import rainmaker.services.Vector;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Asserts that moving clouds, blimps and the helicopter allocates nothing
+ * once warmed up, by reading the thread's allocation counter around a run
+ * of ticks. Exits with status 1 if any bytes were allocated.
+ * <p>
+ * Also reports the allocation rate of full world ticks, which includes
+ * spawning and so is not expected to be zero.
+ */
+public class AllocationCheck {
+    private static final int ENTITIES = 50;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int TICKS = 600;
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean)
+                    ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) {
+        RandomGenerator random = new RandomGenerator(1);
+
+        // Compile the movement code before measuring it, each round with
+        // fresh objects so none of them drift out of the world and die
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            moveAll(new Movers(random), TICKS);
+        }
+
+        Movers movers = new Movers(random);
+        long allocated = allocatedBytes(() -> moveAll(movers, TICKS));
+        System.out.printf("movement: %d bytes over %d ticks of %d objects%n",
+                allocated, TICKS, ENTITIES * 2 + 1);
+
+        // A world ticked before the measured one, so loading the classes a
+        // tick touches for the first time isn't counted
+        new World(0).getGameLoop().tick();
+        World world = new World(1);
+        world.getHelicopter().toggleIgnition();
+        long worldAllocated = allocatedBytes(() -> {
+            for (int i = 0; i < TICKS * 10; i++) world.getGameLoop().tick();
+        });
+        System.out.printf("world ticks: %.1f bytes per tick, spawns " +
+                "included%n", (double) worldAllocated / (TICKS * 10));
+
+        if (allocated > 0) {
+            System.out.println("FAIL: movement allocated");
+            System.exit(1);
+        }
+        System.out.println("OK");
+    }
+
+    private static long allocatedBytes(Runnable work) {
+        long thread = Thread.currentThread().getId();
+        // Reading the counter may allocate itself, measure that first
+        long overheadStart = THREADS.getThreadAllocatedBytes(thread);
+        long overhead = THREADS.getThreadAllocatedBytes(thread) - overheadStart;
+
+        long start = THREADS.getThreadAllocatedBytes(thread);
+        work.run();
+        return THREADS.getThreadAllocatedBytes(thread) - start - overhead;
+    }
+
+    private static void moveAll(Movers movers, int ticks) {
+        for (int tick = 0; tick < ticks; tick++) {
+            for (int i = 0; i < ENTITIES; i++) {
+                movers.clouds[i].update(GameLoop.TICK);
+                movers.blimps[i].update(GameLoop.TICK);
+            }
+            movers.helicopter.update(GameLoop.TICK);
+        }
+    }
+
+    /**
+     * Objects to move, with the helicopter already flying at full speed
+     */
+    private static class Movers {
+        final CloudModel[] clouds = new CloudModel[ENTITIES];
+        final BlimpModel[] blimps = new BlimpModel[ENTITIES];
+        final HelicopterModel helicopter;
+
+        Movers(RandomGenerator random) {
+            for (int i = 0; i < ENTITIES; i++) {
+                clouds[i] = CloudModel.createRandomCloud(random, true);
+                blimps[i] = BlimpModel.getRandomBlimp(random);
+            }
+
+            helicopter = new HelicopterModel(
+                    new Vector(World.WIDTH / 2.0, 0), 25000);
+            helicopter.toggleIgnition();
+            while (helicopter.getStatus() != HelicopterModel.Status.READY) {
+                helicopter.update(GameLoop.TICK);
+            }
+            while (helicopter.getSpeed() < HelicopterModel.MAX_SPEED) {
+                helicopter.speedUp();
+            }
+            helicopter.turnLeft();
+        }
+    }
+}
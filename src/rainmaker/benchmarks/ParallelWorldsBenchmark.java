@@ -0,0 +1,58 @@
+package rainmaker.benchmarks;
+
+import rainmaker.model.ParallelWorlds;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures aggregate ticks per second of a fixed batch of worlds as the
+ * number of threads stepping them grows, doubling up to the number of cores.
+ * <p>
+ * Usage: ParallelWorldsBenchmark [worlds] [ticks per world]
+ */
+public class ParallelWorldsBenchmark {
+    private static final int WARMUP_TICKS = 20_000;
+
+    public static void main(String[] args) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        int worldCount = args.length > 0 ? Integer.parseInt(args[0]) :
+                Math.max(24, cores * 2);
+        long ticks = args.length > 1 ? Long.parseLong(args[1]) : 50_000;
+
+        System.out.printf("%d worlds, %d ticks each, %d cores%n", worldCount,
+                ticks, cores);
+        System.out.printf("%8s %14s %8s%n", "threads", "ticks/s", "speedup");
+
+        double baseline = 0;
+        for (int threads : threadCounts(cores)) {
+            double ticksPerSecond = measure(worldCount, threads, ticks);
+            if (threads == 1) baseline = ticksPerSecond;
+            System.out.printf("%8d %14.0f %7.2fx%n", threads, ticksPerSecond,
+                    ticksPerSecond / baseline);
+        }
+    }
+
+    /**
+     * Powers of two below the core count, then the core count itself
+     */
+    private static List<Integer> threadCounts(int cores) {
+        List<Integer> counts = new ArrayList<>();
+        for (int threads = 1; threads < cores; threads *= 2) {
+            counts.add(threads);
+        }
+        counts.add(cores);
+        return counts;
+    }
+
+    private static double measure(int worldCount, int threads, long ticks) {
+        try (ParallelWorlds worlds = new ParallelWorlds(worldCount, threads)) {
+            worlds.step(WARMUP_TICKS);
+
+            long start = System.nanoTime();
+            worlds.step(ticks);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            return worldCount * ticks / seconds;
+        }
+    }
+}
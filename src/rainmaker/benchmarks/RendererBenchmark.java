@@ -0,0 +1,214 @@
+package rainmaker.benchmarks;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.layout.Pane;
+import javafx.stage.Stage;
+import rainmaker.Camera;
+import rainmaker.Game;
+import rainmaker.Renderable;
+import rainmaker.gameobjects.*;
+import rainmaker.model.*;
+import rainmaker.services.RandomGenerator;
+import rainmaker.services.Vector;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares the scene graph and the canvas renderer at multiples of what is
+ * on screen in a normal game. Each run shows a window of moving clouds,
+ * ponds and blimps and measures the time between pulses, which covers
+ * everything JavaFX does per frame, along with the time spent in the
+ * renderer's own code.
+ * <p>
+ * Needs JavaFX and a display. Pulses aren't capped at the refresh rate, so
+ * the window flickers through the runs as fast as it can draw them.
+ * <p>
+ * Usage: RendererBenchmark [frames per run]
+ */
+public class RendererBenchmark extends Application {
+    private static final int[] MULTIPLIERS = {1, 10, 100, 1000};
+    // A normal game has a few clouds and blimps over the three ponds
+    private static final int CLOUDS = 5;
+    private static final int PONDS = 3;
+    private static final int BLIMPS = 2;
+    private static final int WARMUP_FRAMES = 60;
+    private static final double FRAME_TIME = 1 / 60.0;
+    private final ArrayDeque<Run> runs = new ArrayDeque<>();
+    private Stage stage;
+    private int frames;
+
+    public static void main(String[] args) {
+        // Otherwise both renderers sit at the refresh rate until they fall
+        // behind it
+        System.setProperty("javafx.animation.fullspeed", "true");
+        launch(args);
+    }
+
+    @Override
+    public void start(Stage stage) {
+        this.stage = stage;
+        List<String> args = getParameters().getUnnamed();
+        frames = args.isEmpty() ? 300 : Integer.parseInt(args.get(0));
+
+        for (int multiplier : MULTIPLIERS) {
+            for (Game.Renderer renderer : Game.Renderer.values()) {
+                runs.add(new Run(renderer, multiplier));
+            }
+        }
+
+        System.out.printf("%12s %6s %9s %10s %10s %8s%n", "renderer",
+                "scale", "objects", "frame ms", "render ms", "fps");
+        stage.setTitle("Renderer benchmark");
+        stage.setResizable(false);
+        stage.show();
+        next();
+    }
+
+    private void next() {
+        Run run = runs.poll();
+        if (run == null) {
+            Platform.exit();
+            return;
+        }
+        stage.setScene(new Scene(run.root, World.WIDTH, World.HEIGHT));
+        run.start();
+    }
+
+    /**
+     * One renderer drawing one batch of objects for the given number of
+     * frames, after a warmup
+     */
+    private class Run extends AnimationTimer {
+        private final Game.Renderer renderer;
+        private final int multiplier;
+        private final Pane root = new Pane();
+        private final List<CloudModel> clouds = new ArrayList<>();
+        private final List<PondModel> ponds = new ArrayList<>();
+        private final List<BlimpModel> blimps = new ArrayList<>();
+        private final HelicopterModel helicopter =
+                new HelicopterModel(new Vector(World.WIDTH / 2.0, 100), 25000);
+        private final HelipadModel helipad =
+                new HelipadModel(World.PAD_RADIUS, World.WIDTH / 2.0, 100);
+        private final List<Renderable> views = new ArrayList<>();
+        private final Camera camera = new Camera(World.WIDTH, World.HEIGHT,
+                WorldBounds.DEFAULT);
+        private CanvasPainter painter;
+        private int frame = 0;
+        private long start;
+        private long renderNanos = 0;
+
+        Run(Game.Renderer renderer, int multiplier) {
+            this.renderer = renderer;
+            this.multiplier = multiplier;
+
+            RandomGenerator random = new RandomGenerator(multiplier);
+            for (int i = 0; i < PONDS * multiplier; i++) {
+                ponds.add(PondModel.generatePond(random));
+            }
+            for (int i = 0; i < CLOUDS * multiplier; i++) {
+                clouds.add(CloudModel.createRandomCloud(random, true));
+            }
+            for (int i = 0; i < BLIMPS * multiplier; i++) {
+                Vector position = new Vector(
+                        random.getRandomDouble(0, World.WIDTH),
+                        random.getRandomDouble(0, World.HEIGHT));
+                blimps.add(new BlimpModel(5000, position, random));
+            }
+            root.setScaleY(-1);
+        }
+
+        int objectCount() {
+            return ponds.size() + clouds.size() + blimps.size() + 2;
+        }
+
+        /**
+         * Built when the run starts, so only one run's nodes exist at a time
+         */
+        private void buildScene() {
+            if (renderer == Game.Renderer.CANVAS) {
+                Canvas canvas = new Canvas(World.WIDTH, World.HEIGHT);
+                painter = new CanvasPainter(canvas.getGraphicsContext2D());
+                root.getChildren().add(canvas);
+                return;
+            }
+
+            root.getChildren().add(new ImageBackground(WorldBounds.DEFAULT,
+                    World.WIDTH, World.HEIGHT));
+            for (PondModel pond : ponds) {
+                Pond view = new Pond(pond);
+                views.add(view);
+                root.getChildren().add(view);
+            }
+            root.getChildren().add(new Helipad(helipad));
+            Helicopter heloView = new Helicopter(helicopter);
+            views.add(heloView);
+            root.getChildren().add(heloView);
+            for (CloudModel cloud : clouds) {
+                Cloud view = new Cloud(cloud);
+                views.add(view);
+                root.getChildren().add(view);
+            }
+            for (BlimpModel blimp : blimps) {
+                Blimp view = new Blimp();
+                view.bind(blimp);
+                views.add(view);
+                root.getChildren().add(view);
+            }
+        }
+
+        @Override
+        public void start() {
+            buildScene();
+            super.start();
+        }
+
+        @Override
+        public void handle(long now) {
+            if (frame == WARMUP_FRAMES) {
+                start = now;
+                renderNanos = 0;
+            }
+            if (frame == WARMUP_FRAMES + frames) {
+                stop();
+                report(now);
+                next();
+                return;
+            }
+            frame++;
+
+            for (CloudModel cloud : clouds) cloud.update(FRAME_TIME);
+            for (BlimpModel blimp : blimps) blimp.update(FRAME_TIME);
+
+            long renderStart = System.nanoTime();
+            render();
+            renderNanos += System.nanoTime() - renderStart;
+        }
+
+        private void render() {
+            if (painter == null) {
+                for (Renderable view : views) view.render();
+                return;
+            }
+            painter.background(WorldBounds.DEFAULT, camera);
+            for (PondModel pond : ponds) painter.pond(pond);
+            painter.helipad(helipad);
+            painter.helicopter(helicopter);
+            for (CloudModel cloud : clouds) painter.cloud(cloud);
+            for (BlimpModel blimp : blimps) painter.blimp(blimp);
+        }
+
+        private void report(long now) {
+            double frameMillis = (now - start) / 1e6 / frames;
+            System.out.printf("%12s %5dx %9d %10.3f %10.3f %8.1f%n",
+                    renderer.name().toLowerCase(), multiplier, objectCount(),
+                    frameMillis, renderNanos / 1e6 / frames,
+                    1000 / frameMillis);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package rainmaker.benchmarks;
+
+import rainmaker.GameLoop;
+import rainmaker.model.BlimpModel;
+import rainmaker.model.CloudModel;
+import rainmaker.model.World;
+import rainmaker.model.WorldListener;
+
+/**
+ * Runs one world through many resets, each followed by enough ticks for
+ * clouds and blimps to spawn and despawn, and checks that nothing piles up:
+ * the loop's registered updatables, the wind's observers and the objects the
+ * world reported as alive. Retained heap after a GC is printed along the
+ * way, it should level off.
+ * <p>
+ * Exits with status 1 if any of the counts grew. ViewSoakTest does the same
+ * for the JavaFX views.
+ * <p>
+ * Usage: SoakTest [resets] [ticks per reset]
+ */
+public class SoakTest {
+    private static final int REPORTS = 10;
+
+    public static void main(String[] args) {
+        int resets = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        long ticks = args.length > 1 ? Long.parseLong(args[1]) :
+                (long) (60 * GameLoop.TICKS_PER_SECOND);
+
+        LiveObjects live = new LiveObjects();
+        World world = new World(1);
+        world.setListener(live);
+
+        // Right after a reset is the one point the counts should be the
+        // same every time
+        int registered = world.getGameLoop().getRegisteredCount();
+        int observers = world.getWind().getObserverCount();
+        boolean leaked = false;
+        System.out.printf("%8s %12s %10s %10s %8s%n", "resets", "heap KiB",
+                "updatables", "observers", "objects");
+        for (int reset = 1; reset <= resets; reset++) {
+            world.reset();
+            live.clear();
+            world.getGameLoop().start();
+            for (long i = 0; i < ticks; i++) world.getGameLoop().tick();
+
+            int objects = world.getClouds().size() + world.getBlimps().size();
+            if (objects != live.count) {
+                System.out.printf("world has %d objects, reported %d%n",
+                        objects, live.count);
+                leaked = true;
+            }
+
+            if (reset % Math.max(1, resets / REPORTS) != 0) continue;
+            System.out.printf("%8d %12d %10d %10d %8d%n", reset,
+                    retainedHeap() / 1024,
+                    world.getGameLoop().getRegisteredCount(),
+                    world.getWind().getObserverCount(), live.count);
+        }
+
+        world.reset();
+        live.clear();
+        if (world.getGameLoop().getRegisteredCount() != registered ||
+                world.getWind().getObserverCount() != observers) {
+            System.out.printf("after a reset: %d updatables and %d observers, " +
+                            "expected %d and %d%n",
+                    world.getGameLoop().getRegisteredCount(),
+                    world.getWind().getObserverCount(), registered, observers);
+            leaked = true;
+        }
+
+        System.out.println(leaked ? "LEAKED" : "OK");
+        if (leaked) System.exit(1);
+    }
+
+    private static long retainedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Clouds and blimps the world said it added and hasn't removed
+     */
+    private static class LiveObjects implements WorldListener {
+        int count = 0;
+
+        void clear() {
+            count = 0;
+        }
+
+        @Override
+        public void cloudAdded(CloudModel cloud) {
+            count++;
+        }
+
+        @Override
+        public void cloudRemoved(CloudModel cloud) {
+            count--;
+        }
+
+        @Override
+        public void blimpAdded(BlimpModel blimp) {
+            count++;
+        }
+
+        @Override
+        public void blimpRemoved(BlimpModel blimp) {
+            count--;
+        }
+    }
+}
@@ -1,59 +1,40 @@
 package rainmaker.gameobject_collections;
 
-import javafx.animation.AnimationTimer;
-import rainmaker.Game;
-import rainmaker.Updatable;
 import rainmaker.gameobjects.Blimp;
-import rainmaker.services.CoinSide;
-import rainmaker.services.RandomGenerator;
+import rainmaker.model.BlimpModel;
+import rainmaker.services.ObjectPool;
 
-public class Blimps extends GameObjectPane<Blimp> implements Updatable {
-    private static final int MAX_BLIMPS = 2;
-    private static final int MIN_BLIMPS = 0;
-    private final AnimationTimer timer;
-    private double elapsed = 0;
+/**
+ * Blimp views are pooled, a despawned blimp's view is bound to the next
+ * blimp that spawns
+ */
+public class Blimps extends GameObjectPane<Blimp> {
+    private static final int MAX_POOLED = 8;
+    private final ObjectPool<Blimp> pool = new ObjectPool<>(Blimp::new,
+            MAX_POOLED);
 
-    public Blimps() {
-        timer = new AnimationTimer() {
-            double old = -1;
+    public Blimp spawn(BlimpModel model) {
+        Blimp blimp = pool.acquire();
+        blimp.bind(model);
+        add(blimp);
+        return blimp;
+    }
 
-            @Override
-            public void handle(long now) {
-                if (old < 0) {
-                    old = now;
-                    return;
-                }
-                double frameTime = (now - old) / 1e9;
-                old = now;
-                update(frameTime);
-            }
-        };
-        timer.start();
+    /**
+     * Removes the view of the given blimp and returns it to the pool, it may
+     * be used again for another blimp right away
+     */
+    public Blimp despawn(BlimpModel model) {
+        Blimp blimp = removeFor(model);
+        if (blimp != null) pool.release(blimp);
+        return blimp;
     }
 
     @Override
-    public void update(double frameTime) {
-        // loop through all blimps, remove if dead
-        for (int i = 0; i < getChildren().size(); i++) {
-            Blimp blimp = (Blimp) getChildren().get(i);
-            blimp.update(frameTime);
-            if (blimp.isDead()) {
-                remove(blimp);
-                Game.getInstance().handleBlimpRemoved(blimp);
-            }
-        }
-
-        if (getChildren().size() < MAX_BLIMPS) {
-            elapsed += frameTime;
-            if (elapsed > 3) {
-                elapsed = 0;
-                if (RandomGenerator.flipCoin() == CoinSide.HEADS) {
-                    Blimp blimp = Blimp.getRandomBlimp();
-                    add(blimp);
-                    Game.getInstance().handleBlimpAdded(blimp);
-                }
-            }
+    public void clear() {
+        for (Blimp blimp : this) {
+            pool.release(blimp);
         }
+        super.clear();
     }
 }
-
@@ -1,16 +1,35 @@
 package rainmaker.gameobject_collections;
 
 import javafx.scene.layout.Pane;
+import rainmaker.Renderable;
 import rainmaker.gameobjects.GameObject;
 import rainmaker.gameobjects.ObjectBoundingBox;
 
-public class BoundingBoxPane extends Pane {
+/**
+ * Bounding boxes of the objects, for debugging. Hidden by default, and does
+ * no work at all until it is shown. Boxes of objects that are hidden, being
+ * out of view, are hidden along with them.
+ */
+public class BoundingBoxPane extends Pane implements Renderable {
     public BoundingBoxPane() {
         setVisible(false);
     }
 
     public void toggleVisibility() {
         setVisible(!isVisible());
+        // Brings everything up to date that moved while hidden
+        render();
+    }
+
+    @Override
+    public void render() {
+        if (!isVisible()) return;
+        for (int i = 0; i < getChildren().size(); i++) {
+            ObjectBoundingBox box = (ObjectBoundingBox) getChildren().get(i);
+            boolean visible = box.getObject().isVisible();
+            if (box.isVisible() != visible) box.setVisible(visible);
+            if (visible) box.render();
+        }
     }
 
     public void add(GameObject obj) {
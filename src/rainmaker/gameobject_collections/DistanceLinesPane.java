@@ -1,16 +1,35 @@
 package rainmaker.gameobject_collections;
 
 import javafx.scene.layout.Pane;
+import rainmaker.Renderable;
 import rainmaker.gameobjects.DistanceLine;
 import rainmaker.gameobjects.GameObject;
 
-public class DistanceLinesPane extends Pane {
+/**
+ * Lines between pairs of objects, for debugging. Refreshed by the game once
+ * per frame like any other view, skipped entirely while hidden. A line is
+ * only drawn while at least one of its objects is in view.
+ */
+public class DistanceLinesPane extends Pane implements Renderable {
     public DistanceLinesPane() {
         setVisible(false);
     }
 
     public void toggleVisibility() {
         setVisible(!isVisible());
+        // Brings everything up to date that moved while hidden
+        render();
+    }
+
+    @Override
+    public void render() {
+        if (!isVisible()) return;
+        for (int i = 0; i < getChildren().size(); i++) {
+            DistanceLine line = (DistanceLine) getChildren().get(i);
+            boolean visible = line.hasVisibleObject();
+            if (line.isVisible() != visible) line.setVisible(visible);
+            if (visible) line.render();
+        }
     }
 
     public void add(GameObject obj1, GameObject obj2) {
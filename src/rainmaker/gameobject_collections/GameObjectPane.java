@@ -1,16 +1,20 @@
 package rainmaker.gameobject_collections;
 
 import javafx.scene.layout.Pane;
+import rainmaker.Camera;
+import rainmaker.Renderable;
 import rainmaker.gameobjects.GameObject;
+import rainmaker.model.ObjectModel;
 
 import java.util.Iterator;
 
 /**
  * Temp.Game object pane that stores collection of one type of game objects and
- * updatable
+ * renders them
  */
 
-class GameObjectPane<T extends GameObject> extends Pane implements Iterable<T> {
+class GameObjectPane<T extends GameObject & Renderable> extends Pane
+        implements Iterable<T>, Renderable {
 
     public void add(T object) {
         getChildren().addAll(object);
@@ -20,10 +24,47 @@ class GameObjectPane<T extends GameObject> extends Pane implements Iterable<T> {
         getChildren().removeAll(object);
     }
 
+    /**
+     * Removes and returns the object drawn from the given model, if any
+     */
+    @SuppressWarnings("unchecked")
+    public T removeFor(ObjectModel model) {
+        for (int i = 0; i < getChildren().size(); i++) {
+            T object = (T) getChildren().get(i);
+            if (object.getModel() == model) {
+                getChildren().remove(i);
+                return object;
+            }
+        }
+        return null;
+    }
+
     public void clear() {
         getChildren().clear();
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public void render() {
+        for (int i = 0; i < getChildren().size(); i++) {
+            ((T) getChildren().get(i)).render();
+        }
+    }
+
+    /**
+     * Renders the objects the camera sees and hides the others, which are
+     * left as they were until they come back into view
+     */
+    @SuppressWarnings("unchecked")
+    public void render(Camera camera) {
+        for (int i = 0; i < getChildren().size(); i++) {
+            T object = (T) getChildren().get(i);
+            boolean visible = camera.sees(object.getModel());
+            if (object.isVisible() != visible) object.setVisible(visible);
+            if (visible) object.render();
+        }
+    }
+
     //public List getObjects() { return getChildren(); }
 
     @Override
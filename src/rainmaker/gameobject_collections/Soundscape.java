@@ -0,0 +1,83 @@
+package rainmaker.gameobject_collections;
+
+import rainmaker.Renderable;
+import rainmaker.gameobjects.BlimpSounds;
+import rainmaker.gameobjects.HelicopterSounds;
+import rainmaker.gameobjects.Wind;
+import rainmaker.model.BlimpModel;
+import rainmaker.model.World;
+import rainmaker.model.WorldListener;
+import rainmaker.services.Assets;
+import rainmaker.services.AudioMixer;
+import rainmaker.services.ObjectPool;
+
+import java.util.ArrayList;
+
+/**
+ * Everything the world sounds like, kept apart from the views so it plays
+ * the same whichever way the world is drawn. Blimp sounds are pooled like
+ * blimp views used to be.
+ */
+public class Soundscape implements Renderable, WorldListener {
+    private static final int MAX_POOLED = 8;
+    private final World world;
+    private final AudioMixer mixer;
+    private final Wind wind;
+    private final AudioMixer.Source rainSound;
+    private final ObjectPool<BlimpSounds> pool;
+    private final ArrayList<BlimpSounds> blimps = new ArrayList<>();
+    private HelicopterSounds helicopter;
+
+    public Soundscape(World world, AudioMixer mixer) {
+        this.world = world;
+        this.mixer = mixer;
+        wind = new Wind(world.getWind(), mixer);
+        rainSound = mixer.createSource(Assets.RAIN_SOUND, 0);
+        rainSound.setVolume(1);
+        pool = new ObjectPool<>(() -> new BlimpSounds(mixer), MAX_POOLED,
+                BlimpSounds::dispose);
+    }
+
+    /**
+     * Starts over with the world's current helicopter and no blimps, called
+     * after the world itself was reset
+     */
+    public void reset() {
+        for (int i = 0; i < blimps.size(); i++) {
+            blimps.get(i).silence();
+            pool.release(blimps.get(i));
+        }
+        blimps.clear();
+
+        if (helicopter != null) helicopter.dispose();
+        helicopter = new HelicopterSounds(world.getHelicopter(), mixer);
+    }
+
+    @Override
+    public void blimpAdded(BlimpModel model) {
+        BlimpSounds sounds = pool.acquire();
+        sounds.bind(model);
+        blimps.add(sounds);
+    }
+
+    @Override
+    public void blimpRemoved(BlimpModel model) {
+        for (int i = 0; i < blimps.size(); i++) {
+            BlimpSounds sounds = blimps.get(i);
+            if (sounds.getModel() != model) continue;
+            blimps.remove(i);
+            sounds.silence();
+            pool.release(sounds);
+            return;
+        }
+    }
+
+    @Override
+    public void render() {
+        wind.render();
+        rainSound.setPlaying(world.getClouds().isRaining());
+        for (int i = 0; i < blimps.size(); i++) {
+            blimps.get(i).render();
+        }
+    }
+}
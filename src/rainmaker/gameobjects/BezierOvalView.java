@@ -0,0 +1,124 @@
+package rainmaker.gameobjects;
+
+import javafx.scene.Group;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Ellipse;
+import javafx.scene.shape.QuadCurve;
+import rainmaker.services.BezierOval;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Draws a BezierOval as an ellipse plus one QuadCurve node per bump. Can be
+ * pointed at another oval, reusing its nodes.
+ */
+public class BezierOvalView extends Group {
+    private final Ellipse oval = new Ellipse(0, 0);
+    private final ArrayList<QuadCurve> quadCurves = new ArrayList<>();
+    private BezierOval bezierOval;
+    private Color fill;
+    private Color stroke;
+    private double strokeWidth = 1;
+
+    /**
+     * Shows nothing until it is given an oval
+     */
+    public BezierOvalView() {
+        getChildren().add(oval);
+    }
+
+    public BezierOvalView(BezierOval bezierOval) {
+        this();
+        setBezierOval(bezierOval);
+    }
+
+    /**
+     * Reshapes the view into the given oval, curves are only created when
+     * it has more bumps than any oval shown before
+     */
+    public void setBezierOval(BezierOval bezierOval) {
+        if (bezierOval == this.bezierOval) return;
+        this.bezierOval = bezierOval;
+        oval.setRadiusX(bezierOval.getRadiusX());
+        oval.setRadiusY(bezierOval.getRadiusY());
+
+        List<double[]> curves = bezierOval.getQuadCurves();
+        while (quadCurves.size() < curves.size()) {
+            QuadCurve curve = new QuadCurve();
+            if (fill != null) curve.setFill(fill);
+            if (stroke != null) curve.setStroke(stroke);
+            curve.setStrokeWidth(strokeWidth);
+            quadCurves.add(curve);
+            getChildren().add(curve);
+        }
+        for (int i = 0; i < quadCurves.size(); i++) {
+            QuadCurve curve = quadCurves.get(i);
+            curve.setVisible(i < curves.size());
+            if (i >= curves.size()) continue;
+
+            double[] points = curves.get(i);
+            curve.setStartX(points[BezierOval.START_X]);
+            curve.setStartY(points[BezierOval.START_Y]);
+            curve.setControlX(points[BezierOval.CONTROL_X]);
+            curve.setControlY(points[BezierOval.CONTROL_Y]);
+            curve.setEndX(points[BezierOval.END_X]);
+            curve.setEndY(points[BezierOval.END_Y]);
+        }
+    }
+
+    public BezierOval getBezierOval() {
+        return bezierOval;
+    }
+
+    public void setFill(Color color) {
+        fill = color;
+        for (QuadCurve curve : quadCurves) {
+            curve.setFill(color);
+        }
+        oval.setFill(color);
+    }
+
+    public void setStroke(Color color) {
+        stroke = color;
+        for (QuadCurve curve : quadCurves) {
+            curve.setStroke(color);
+        }
+    }
+
+    public void setStrokeWidth(double width) {
+        strokeWidth = width;
+        for (QuadCurve curve : quadCurves) {
+            curve.setStrokeWidth(width);
+        }
+    }
+
+    public double getRadiusX() {
+        return oval.getRadiusX();
+    }
+
+    public double getRadiusY() {
+        return oval.getRadiusY();
+    }
+
+
+    public void showControlPoints() {
+        for (QuadCurve curve : quadCurves) {
+            Circle circle = new Circle(curve.getControlX(), curve.getControlY(),
+                    2);
+            circle.setFill(Color.RED);
+            getChildren().add(circle);
+
+            //draw a circle on the start and end points
+            Circle circle1 = new Circle(curve.getStartX(), curve.getStartY(),
+                    2);
+            circle1.setFill(Color.GREEN);
+            getChildren().add(circle1);
+
+            Circle circle2 = new Circle(curve.getEndX(), curve.getEndY(), 2);
+            circle2.setFill(Color.GREEN);
+            getChildren().add(circle2);
+        }
+    }
+}
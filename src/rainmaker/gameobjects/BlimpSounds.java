@@ -0,0 +1,71 @@
+package rainmaker.gameobjects;
+
+import rainmaker.Disposable;
+import rainmaker.Renderable;
+import rainmaker.model.BlimpModel;
+import rainmaker.model.World;
+import rainmaker.services.Assets;
+import rainmaker.services.AudioMixer;
+
+/**
+ * A blimp's engine, louder the closer it is to the helicopter, and the
+ * sound of it refueling the helicopter
+ */
+public class BlimpSounds implements Renderable, Disposable {
+    // Refueling is what the player is paying attention to, it wins over
+    // the engines of the other blimps
+    private static final int REFUEL_PRIORITY = 1;
+    private final AudioMixer.Source engineSound;
+    private final AudioMixer.Source refuelSound;
+    private BlimpModel model;
+    private boolean disposed = false;
+
+    /**
+     * Silent until it is bound to a model
+     */
+    public BlimpSounds(AudioMixer mixer) {
+        engineSound = mixer.createSource(Assets.BLIMP_ENGINE_SOUND, 0);
+        refuelSound = mixer.createSource(Assets.REFUEL_SOUND,
+                REFUEL_PRIORITY);
+        refuelSound.setVolume(1);
+    }
+
+    public void bind(BlimpModel model) {
+        this.model = model;
+        render();
+    }
+
+    public BlimpModel getModel() {
+        return model;
+    }
+
+    /**
+     * Mutes the sounds when they are put away, they stay with the mixer for
+     * the next blimp they're bound to
+     */
+    public void silence() {
+        engineSound.setPlaying(false);
+        refuelSound.setPlaying(false);
+    }
+
+    @Override
+    public void render() {
+        double volume = 1 - (model.getDistanceFromMainPlayer() / World.WIDTH);
+        engineSound.setVolume(Math.max(0, volume));
+        engineSound.setPlaying(!model.isDead());
+        refuelSound.setPlaying(model.isRefueling());
+    }
+
+    /**
+     * Dead blimps are removed within the tick they die in, before they get
+     * rendered again, so whoever removes one has to silence or dispose its
+     * sounds
+     */
+    @Override
+    public void dispose() {
+        if (disposed) return;
+        disposed = true;
+        engineSound.release();
+        refuelSound.release();
+    }
+}
@@ -0,0 +1,226 @@
+package rainmaker.gameobjects;
+
+import javafx.geometry.VPos;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.ImagePattern;
+import javafx.scene.text.TextAlignment;
+import rainmaker.Camera;
+import rainmaker.model.*;
+import rainmaker.services.Assets;
+import rainmaker.services.BezierOval;
+
+import java.util.List;
+
+import static rainmaker.model.BlimpModel.*;
+
+/**
+ * Draws objects onto a canvas straight from their models, looking like the
+ * views in this package do. Each call paints one object in world
+ * coordinates and leaves the graphics context as it found it.
+ * <p>
+ * Paints and labels that only depend on a small number are made once up
+ * front, so painting a frame allocates little beyond the text of labels
+ * that changed.
+ */
+public class CanvasPainter {
+    private static final Image BACKGROUND = Assets.image(Assets.BACKGROUND);
+    private static final Image COPTER_BODY =
+            Assets.image(Assets.COPTER_BODY);
+    private static final ImagePattern COPTER_BLADES =
+            new ImagePattern(Assets.image(Assets.COPTER_BLADES));
+    private static final Image BLIMP_BODY = Assets.image(Assets.BLIMP_BODY);
+    private static final Image[] propellerFrames =
+            new Image[Assets.PROPELLER_FRAMES];
+    // Helicopter labels sit above its position, the fuel first
+    private static final double FUEL_LABEL_Y = -34;
+    private static final double STATE_LABEL_Y = -50;
+    private static final double REFUELING_LIGHT_RADIUS = 5;
+    // Saturation goes from 0 to 100
+    private static final Color[] cloudFills = new Color[101];
+    private static final String[] saturationLabels = new String[101];
+    private final GraphicsContext gc;
+
+    static {
+        for (int i = 0; i < propellerFrames.length; i++) {
+            propellerFrames[i] = Assets.propellerFrame(i);
+        }
+        for (int i = 0; i < cloudFills.length; i++) {
+            cloudFills[i] = Color.rgb(255 - i, 255 - i, 255 - i);
+            saturationLabels[i] = i + "%";
+        }
+    }
+
+    public CanvasPainter(GraphicsContext gc) {
+        this.gc = gc;
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.CENTER);
+    }
+
+    /**
+     * The ground tiles of the world that the camera sees, laid out like
+     * ImageBackground's
+     */
+    public void background(WorldBounds world, Camera camera) {
+        double tileWidth = ImageBackground.TILE_WIDTH;
+        double tileHeight = ImageBackground.TILE_HEIGHT;
+        double firstX = Math.floor(camera.getMinX() / tileWidth) * tileWidth;
+        double firstY = Math.floor(camera.getMinY() / tileHeight) *
+                tileHeight;
+        for (double y = Math.max(0, firstY);
+             y < Math.min(world.getHeight(), camera.getMaxY());
+             y += tileHeight) {
+            for (double x = Math.max(0, firstX);
+                 x < Math.min(world.getWidth(), camera.getMaxX());
+                 x += tileWidth) {
+                gc.drawImage(BACKGROUND, x, y, tileWidth, tileHeight);
+            }
+        }
+    }
+
+    public void pond(PondModel pond) {
+        gc.save();
+        gc.translate(pond.getX(), pond.getY());
+        gc.save();
+        gc.scale(pond.getScale(), pond.getScale());
+        bezierOval(pond.getShape(), Color.BLUE, null);
+        gc.restore();
+        label(String.valueOf((int) pond.getCurrentWaterLevel()), 0, 0,
+                Color.WHITE);
+        gc.restore();
+    }
+
+    public void helipad(HelipadModel helipad) {
+        double radius = helipad.getRadius();
+        double half = radius + HelipadModel.STROKE_WIDTH / 2 +
+                HelipadModel.BORDER_OFFSET;
+
+        gc.save();
+        gc.translate(helipad.getX(), helipad.getY());
+        gc.setFill(Color.DARKGRAY);
+        gc.setStroke(Color.GRAY);
+        gc.setLineWidth(HelipadModel.STROKE_WIDTH);
+        gc.fillRect(-half, -half, half * 2, half * 2);
+        gc.strokeRect(-half, -half, half * 2, half * 2);
+        gc.fillOval(-radius, -radius, radius * 2, radius * 2);
+        gc.strokeOval(-radius, -radius, radius * 2, radius * 2);
+        gc.restore();
+    }
+
+    public void helicopter(HelicopterModel helicopter) {
+        gc.save();
+        gc.translate(helicopter.getX(), helicopter.getY());
+        gc.rotate(helicopter.getRotation());
+
+        // Both images are upside down in the flipped world, like the nodes
+        gc.save();
+        gc.translate(HelicopterModel.BODY_OFFSET_X,
+                HelicopterModel.BODY_OFFSET_Y + HelicopterModel.BODY_HEIGHT);
+        gc.scale(1, -1);
+        gc.drawImage(COPTER_BODY, 0, 0, HelicopterModel.BODY_WIDTH,
+                HelicopterModel.BODY_HEIGHT);
+        gc.restore();
+
+        double radius = HelicopterModel.BLADE_RADIUS;
+        gc.save();
+        gc.rotate(HeloBlade.INITIAL_ROTATION_ANGLE +
+                helicopter.getBlade().getRotation());
+        gc.scale(1, -1);
+        gc.setFill(COPTER_BLADES);
+        gc.fillOval(-radius, -radius, radius * 2, radius * 2);
+        gc.restore();
+
+        label("F: " + (int) helicopter.getFuel(), 0, FUEL_LABEL_Y, Color.RED);
+        label(helicopter.getStateName(), 0, STATE_LABEL_Y, Color.RED);
+        gc.restore();
+    }
+
+    public void cloud(CloudModel cloud) {
+        int saturation = cloud.getSaturation();
+
+        gc.save();
+        gc.translate(cloud.getX(), cloud.getY());
+        gc.save();
+        gc.scale(cloud.getScale(), cloud.getScale());
+        gc.setLineWidth(1);
+        bezierOval(cloud.getShape(), cloudFills[saturation], Color.BLACK);
+        gc.restore();
+        label(saturationLabels[saturation], 0, 0, Color.BLUE);
+        gc.restore();
+    }
+
+    public void blimp(BlimpModel blimp) {
+        int frame = (int) (blimp.getAge() / Blimp.PROPELLER_FRAME_DURATION);
+
+        gc.save();
+        gc.translate(blimp.getX(), blimp.getY());
+        gc.drawImage(BLIMP_BODY, -BODY_WIDTH / 2, -BODY_HEIGHT / 2,
+                BODY_WIDTH, BODY_HEIGHT);
+        gc.drawImage(propellerFrames[frame % propellerFrames.length],
+                PROPELLER_OFFSET_X, PROPELLER_OFFSET_Y, PROPELLER_WIDTH,
+                PROPELLER_HEIGHT);
+        label(String.valueOf((int) blimp.getFuel()), 0, 0, Color.YELLOW);
+
+        double r = REFUELING_LIGHT_RADIUS;
+        gc.setFill(blimp.isRefueling() ? Color.GREEN : Color.RED);
+        gc.fillOval(BODY_WIDTH / 2 - 20 - r, -r, r * 2, r * 2);
+        gc.restore();
+    }
+
+    public void boundingBox(ObjectModel model) {
+        gc.setStroke(Color.YELLOW);
+        gc.setLineWidth(1);
+        gc.strokeRect(model.getMinX(), model.getMinY(), model.getWidth(),
+                model.getHeight());
+    }
+
+    public void distanceLine(ObjectModel model1, ObjectModel model2) {
+        double x1 = model1.getCenterX();
+        double y1 = model1.getCenterY();
+        double x2 = model2.getCenterX();
+        double y2 = model2.getCenterY();
+
+        gc.setStroke(Color.YELLOW);
+        gc.setLineWidth(1);
+        gc.strokeLine(x1, y1, x2, y2);
+        label(String.format("%.2f", model1.distanceTo(model2)),
+                (x1 + x2) / 2, (y1 + y2) / 2, Color.YELLOW);
+    }
+
+    /**
+     * The oval filled, then every bump filled between its curve and its
+     * chord and stroked along the curve, as BezierOvalView draws them
+     */
+    private void bezierOval(BezierOval oval, Color fill, Color stroke) {
+        double radiusX = oval.getRadiusX();
+        double radiusY = oval.getRadiusY();
+        gc.setFill(fill);
+        gc.fillOval(-radiusX, -radiusY, radiusX * 2, radiusY * 2);
+
+        if (stroke != null) gc.setStroke(stroke);
+        List<double[]> curves = oval.getQuadCurves();
+        for (int i = 0; i < curves.size(); i++) {
+            double[] points = curves.get(i);
+            gc.beginPath();
+            gc.moveTo(points[BezierOval.START_X], points[BezierOval.START_Y]);
+            gc.quadraticCurveTo(points[BezierOval.CONTROL_X],
+                    points[BezierOval.CONTROL_Y], points[BezierOval.END_X],
+                    points[BezierOval.END_Y]);
+            gc.fill();
+            if (stroke != null) gc.stroke();
+        }
+    }
+
+    /**
+     * Text centered on the point, flipped back upright like GameText
+     */
+    private void label(String text, double x, double y, Color color) {
+        gc.save();
+        gc.translate(x, y);
+        gc.scale(1, -1);
+        gc.setFill(color);
+        gc.fillText(text, 0, 0);
+        gc.restore();
+    }
+}
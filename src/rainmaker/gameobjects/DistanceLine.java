@@ -3,13 +3,25 @@ package rainmaker.gameobjects;
 import javafx.scene.Group;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Line;
-
-public class DistanceLine extends Group {
-    private Line line;
-    private GameObject object1;
-    private GameObject object2;
-
-    private GameText distanceText;
+import rainmaker.Renderable;
+import rainmaker.model.ObjectModel;
+
+/**
+ * Debug line between the centers of two objects' bounds, labelled with the
+ * distance. Only touches its nodes when one of the objects moved since the
+ * last render, and only formats the label when its digits change.
+ */
+public class DistanceLine extends Group implements Renderable {
+    private final Line line;
+    private final GameObject object1;
+    private final GameObject object2;
+    private final GameText distanceText;
+    private double x1 = Double.NaN;
+    private double y1 = Double.NaN;
+    private double x2 = Double.NaN;
+    private double y2 = Double.NaN;
+    // Distance in hundredths, as the label shows it
+    private long shownDistance = -1;
 
     public DistanceLine(GameObject obj1, GameObject obj2) {
         line = new Line();
@@ -21,16 +33,6 @@ public class DistanceLine extends Group {
         distanceText = new GameText();
         distanceText.setFill(Color.YELLOW);
 
-        update();
-        object1.boundsInParentProperty()
-                .addListener((observable, oldValue, newValue) -> {
-                    update();
-                });
-        object2.boundsInParentProperty()
-                .addListener((observable, oldValue, newValue) -> {
-                    update();
-                });
-
         getChildren().addAll(line, distanceText);
     }
 
@@ -43,41 +45,39 @@ public class DistanceLine extends Group {
         return object1 == obj || object2 == obj;
     }
 
-    public double getDistance() {
-        double x1 = object1.getBoundsInParent().getCenterX();
-        double y1 = object1.getBoundsInParent().getCenterY();
-        double x2 = object2.getBoundsInParent().getCenterX();
-        double y2 = object2.getBoundsInParent().getCenterY();
+    public boolean hasVisibleObject() {
+        return object1.isVisible() || object2.isVisible();
+    }
 
-        return Math.sqrt(Math.pow(x2 - x1, 2) + Math.pow(y2 - y1, 2));
+    public double getDistance() {
+        return object1.getModel().distanceTo(object2.getModel());
     }
 
     public static double getDistance(GameObject obj1, GameObject obj2) {
-        double x1 = obj1.getBoundsInParent().getCenterX();
-        double y1 = obj1.getBoundsInParent().getCenterY();
-        double x2 = obj2.getBoundsInParent().getCenterX();
-        double y2 = obj2.getBoundsInParent().getCenterY();
-
-        return Math.sqrt(Math.pow(x2 - x1, 2) + Math.pow(y2 - y1, 2));
+        return obj1.getModel().distanceTo(obj2.getModel());
     }
 
-    /**
-     * Maybe needed if property binding not allowed
-     */
-    private void update() {
-        double x1 = object1.getBoundsInParent().getCenterX();
-        double y1 = object1.getBoundsInParent().getCenterY();
-        double x2 = object2.getBoundsInParent().getCenterX();
-        double y2 = object2.getBoundsInParent().getCenterY();
+    @Override
+    public void render() {
+        ObjectModel model1 = object1.getModel();
+        ObjectModel model2 = object2.getModel();
+        if (model1.getCenterX() == x1 && model1.getCenterY() == y1 &&
+                model2.getCenterX() == x2 && model2.getCenterY() == y2) return;
+        x1 = model1.getCenterX();
+        y1 = model1.getCenterY();
+        x2 = model2.getCenterX();
+        y2 = model2.getCenterY();
 
         line.setStartX(x1);
         line.setStartY(y1);
         line.setEndX(x2);
         line.setEndY(y2);
-
-        double distance = getDistance();
-        distanceText.setText(String.format("%.2f", distance));
         distanceText.setX((x1 + x2) / 2);
         distanceText.setY((y1 + y2) / 2);
+
+        long distance = Math.round(getDistance() * 100);
+        if (distance == shownDistance) return;
+        shownDistance = distance;
+        distanceText.setText(String.format("%.2f", distance / 100.0));
     }
 }
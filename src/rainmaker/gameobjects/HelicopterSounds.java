@@ -0,0 +1,127 @@
+package rainmaker.gameobjects;
+
+import javafx.scene.media.AudioClip;
+import javafx.scene.media.Media;
+import javafx.scene.media.MediaPlayer;
+import javafx.util.Duration;
+import rainmaker.Disposable;
+import rainmaker.model.HelicopterModel;
+import rainmaker.model.HelicopterModel.Status;
+import rainmaker.services.Assets;
+import rainmaker.services.AudioMixer;
+
+/**
+ * The helicopter's engine and seeding sounds, driven by the model's state
+ * changes rather than by whatever draws the helicopter
+ */
+public class HelicopterSounds implements Disposable {
+    public static final AudioClip SEEDING_SOUND =
+            Assets.clip(Assets.SEEDING_SOUND);
+    private static final Media TAKEOFF_SOUND_MEDIA =
+            Assets.media(Assets.TAKEOFF_SOUND);
+    public static final MediaPlayer TAKEOFF_SOUND =
+            new MediaPlayer(TAKEOFF_SOUND_MEDIA);
+    private static final Media LANDING_SOUND_MEDIA =
+            Assets.media(Assets.LANDING_SOUND);
+    public static final MediaPlayer LANDING_SOUND =
+            new MediaPlayer(LANDING_SOUND_MEDIA);
+    private final HelicopterModel model;
+    // Takeoff and landing seek into each other, so they keep their own
+    // players; the hum while flying goes through the mixer
+    private final AudioMixer.Source flyingSound;
+    protected Duration takeOffCurrentTime = Duration.ZERO;
+    protected Duration landingCurrentTime = Duration.ZERO;
+    private Status lastStatus;
+
+    public HelicopterSounds(HelicopterModel model, AudioMixer mixer) {
+        this.model = model;
+        flyingSound = mixer.createSource(Assets.FLYING_SOUND, 0);
+        flyingSound.setVolume(0.5);
+
+        TAKEOFF_SOUND.setVolume(0);
+        LANDING_SOUND.setVolume(0);
+        SEEDING_SOUND.setVolume(1);
+
+        lastStatus = model.getStatus();
+        model.setOnStateChanged(this::handleStateChanged);
+        model.setOnSeedAction(SEEDING_SOUND::play);
+    }
+
+    /**
+     * Engine sounds follow the helicopter's state. Taking off and landing
+     * pick up where the other one was cut off, so toggling the ignition
+     * halfway through sounds continuous.
+     */
+    private void handleStateChanged() {
+        Status previous = lastStatus;
+        lastStatus = model.getStatus();
+
+        switch (lastStatus) {
+            case OFF -> {
+                LANDING_SOUND.stop();
+                landingCurrentTime = Duration.ZERO;
+                takeOffCurrentTime = Duration.ZERO;
+            }
+            case STARTING -> {
+                if (previous == Status.STOPPING) {
+                    landingCurrentTime = LANDING_SOUND.getCurrentTime();
+                    LANDING_SOUND.stop();
+                }
+                playTakeOffSound();
+            }
+            case READY -> {
+                takeOffCurrentTime = LANDING_SOUND_MEDIA.getDuration();
+                TAKEOFF_SOUND.stop();
+                flyingSound.setPlaying(true);
+            }
+            case STOPPING -> {
+                if (previous == Status.STARTING) {
+                    takeOffCurrentTime = TAKEOFF_SOUND.getCurrentTime();
+                    TAKEOFF_SOUND.stop();
+                }
+                playLandingSound();
+            }
+        }
+    }
+
+    private void playTakeOffSound() {
+        flyingSound.setPlaying(false);
+        double totalSoundDuration =
+                TAKEOFF_SOUND_MEDIA.getDuration().toMillis();
+        double landingStoppedAtDuration =
+                landingCurrentTime.toMillis();
+        Duration newSoundStartDuration =
+                new Duration(totalSoundDuration - landingStoppedAtDuration);
+
+        if (landingCurrentTime != Duration.ZERO) {
+            TAKEOFF_SOUND.setStartTime(newSoundStartDuration);
+        } else {
+            TAKEOFF_SOUND.setStartTime(Duration.ZERO);
+        }
+
+        TAKEOFF_SOUND.play();
+        TAKEOFF_SOUND.setVolume(0.3);
+    }
+
+    private void playLandingSound() {
+        flyingSound.setPlaying(false);
+        if (takeOffCurrentTime.toMillis() > 1) {
+            LANDING_SOUND.setStartTime(new Duration(
+                    LANDING_SOUND_MEDIA.getDuration().toMillis() -
+                            takeOffCurrentTime.toMillis()));
+        } else {
+            LANDING_SOUND.setStartTime(Duration.ZERO);
+        }
+
+        LANDING_SOUND.play();
+        LANDING_SOUND.setVolume(0.3);
+    }
+
+    /**
+     * Stops the hum, there are new sounds for every new helicopter
+     */
+    @Override
+    public void dispose() {
+        flyingSound.release();
+    }
+}
@@ -4,17 +4,22 @@ import javafx.geometry.Bounds;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Circle;
 import javafx.scene.shape.Rectangle;
-import rainmaker.services.Vector;
+import rainmaker.model.HelipadModel;
+
+import static rainmaker.model.HelipadModel.BORDER_OFFSET;
+import static rainmaker.model.HelipadModel.STROKE_WIDTH;
 
 public class Helipad extends GameObject {
-    private final double BORDER_OFFSET = 10;
+    private final HelipadModel model;
     Circle pad;
 
-    public Helipad(double radius, Vector initialPosition) {
-        pad = new Circle(radius);
+    public Helipad(HelipadModel model) {
+        this.model = model;
+
+        pad = new Circle(model.getRadius());
         pad.setFill(Color.DARKGRAY);
         pad.setStroke(Color.GRAY);
-        pad.setStrokeWidth(2);
+        pad.setStrokeWidth(STROKE_WIDTH);
 
         Bounds bounds = pad.getBoundsInParent();
         Rectangle border = new Rectangle(
@@ -24,13 +29,16 @@ public class Helipad extends GameObject {
                 bounds.getHeight() + BORDER_OFFSET * 2
         );
         border.setStroke(Color.GRAY);
-        border.setStrokeWidth(2);
+        border.setStrokeWidth(STROKE_WIDTH);
         border.setFill(Color.DARKGRAY);
 
-        shapes.add(pad);
-
         getChildren().addAll(border, pad);
 
-        translate(initialPosition.getX(), initialPosition.getY());
+        translate(model.getX(), model.getY());
+    }
+
+    @Override
+    public HelipadModel getModel() {
+        return model;
     }
 }
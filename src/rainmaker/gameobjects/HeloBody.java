@@ -1,19 +1,20 @@
 package rainmaker.gameobjects;
 
-import javafx.scene.image.Image;
 import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Rectangle;
+import rainmaker.services.Assets;
+
+import static rainmaker.model.HelicopterModel.*;
 
 class HeloBody extends Rectangle {
     public HeloBody() {
-        Image bodyImage = new Image("/copter_body.png");
-        setFill(new ImagePattern(bodyImage));
+        setFill(new ImagePattern(Assets.image(Assets.COPTER_BODY)));
 
-        // scale the image down to 14% of its original size
-        setWidth(bodyImage.getWidth() * 0.18);
-        setHeight(bodyImage.getHeight() * 0.18);
+        // the model's size is the image scaled down to 18% of its original
+        setWidth(BODY_WIDTH);
+        setHeight(BODY_HEIGHT);
         setScaleY(-1);
-        setTranslateX(-15);
-        setTranslateY(-65);
+        setTranslateX(BODY_OFFSET_X);
+        setTranslateY(BODY_OFFSET_Y);
     }
 }
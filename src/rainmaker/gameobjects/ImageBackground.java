@@ -3,14 +3,75 @@ package rainmaker.gameobjects;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Pane;
+import rainmaker.Camera;
+import rainmaker.model.World;
+import rainmaker.model.WorldBounds;
+import rainmaker.services.Assets;
 
+/**
+ * The ground: the background image repeated over the world in tiles the
+ * size of a default world, so a default world is covered by exactly one.
+ * <p>
+ * Only as many tiles as it takes to cover the view exist, whatever the
+ * world's size. They are moved to wherever the camera is when rendered.
+ */
 public class ImageBackground extends Pane {
-    private final ImageView background;
+    public static final double TILE_WIDTH = World.WIDTH;
+    public static final double TILE_HEIGHT = World.HEIGHT;
+    private final WorldBounds world;
+    private final int columns;
+    private final int rows;
 
-    public ImageBackground(double width, double height) {
-        background = new ImageView(new Image("/desert_bg_img.jpg"));
-        background.setFitWidth(width);
-        background.setFitHeight(height);
-        getChildren().add(background);
+    public ImageBackground(WorldBounds world, double viewWidth,
+                           double viewHeight) {
+        this.world = world;
+        columns = tileCount(viewWidth, world.getWidth(), TILE_WIDTH);
+        rows = tileCount(viewHeight, world.getHeight(), TILE_HEIGHT);
+
+        Image image = Assets.image(Assets.BACKGROUND);
+        for (int i = 0; i < columns * rows; i++) {
+            ImageView tile = new ImageView(image);
+            tile.setFitWidth(TILE_WIDTH);
+            tile.setFitHeight(TILE_HEIGHT);
+            getChildren().add(tile);
+        }
+        layoutTiles(0, 0);
+    }
+
+    /**
+     * A view that isn't lined up with the tiles overlaps one more of them
+     */
+    private static int tileCount(double view, double world, double tile) {
+        int inWorld = (int) Math.ceil(world / tile);
+        return Math.max(1, Math.min(inWorld, (int) Math.ceil(view / tile) + 1));
+    }
+
+    /**
+     * Moves the tiles under the camera
+     */
+    public void render(Camera camera) {
+        layoutTiles(camera.getMinX(), camera.getMinY());
+    }
+
+    /**
+     * Lines the tiles up from the one the given point is on, tiles that
+     * would be past the world's edges are hidden
+     */
+    private void layoutTiles(double minX, double minY) {
+        double firstX = Math.floor(minX / TILE_WIDTH) * TILE_WIDTH;
+        double firstY = Math.floor(minY / TILE_HEIGHT) * TILE_HEIGHT;
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                ImageView tile = (ImageView) getChildren().get(
+                        row * columns + column);
+                double x = firstX + column * TILE_WIDTH;
+                double y = firstY + row * TILE_HEIGHT;
+                if (tile.getX() != x) tile.setX(x);
+                if (tile.getY() != y) tile.setY(y);
+                boolean visible = x < world.getWidth() &&
+                        y < world.getHeight();
+                if (tile.isVisible() != visible) tile.setVisible(visible);
+            }
+        }
     }
 }
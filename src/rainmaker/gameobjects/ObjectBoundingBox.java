@@ -1,31 +1,42 @@
 package rainmaker.gameobjects;
 
-import javafx.geometry.Bounds;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
+import rainmaker.Renderable;
+import rainmaker.model.ObjectModel;
 
-public class ObjectBoundingBox extends Rectangle {
-    private GameObject object;
+/**
+ * Debug outline of an object's bounds, taken from its model. Only touches
+ * the rectangle when the bounds changed since the last render.
+ */
+public class ObjectBoundingBox extends Rectangle implements Renderable {
+    private final GameObject object;
+    private double minX = Double.NaN;
+    private double minY = Double.NaN;
+    private double maxX = Double.NaN;
+    private double maxY = Double.NaN;
 
     public ObjectBoundingBox(GameObject object) {
         this.object = object;
         setFill(Color.TRANSPARENT);
         setStrokeWidth(1);
         setStroke(Color.YELLOW);
-
-        update(object.getBoundsInParent());
-
-        object.boundsInParentProperty()
-                .addListener((observable, oldValue, newValue) -> {
-                    update(newValue);
-                });
     }
 
-    private void update(Bounds bounds) {
-        setX(bounds.getMinX());
-        setY(bounds.getMinY());
-        setWidth(bounds.getWidth());
-        setHeight(bounds.getHeight());
+    @Override
+    public void render() {
+        ObjectModel model = object.getModel();
+        if (model.getMinX() == minX && model.getMinY() == minY &&
+                model.getMaxX() == maxX && model.getMaxY() == maxY) return;
+        minX = model.getMinX();
+        minY = model.getMinY();
+        maxX = model.getMaxX();
+        maxY = model.getMaxY();
+
+        setX(minX);
+        setY(minY);
+        setWidth(maxX - minX);
+        setHeight(maxY - minY);
     }
 
     public GameObject getObject() {
@@ -0,0 +1,78 @@
+package rainmaker.gameobjects;
+
+import javafx.geometry.VPos;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import rainmaker.FrameProfiler;
+import rainmaker.GameLoop;
+import rainmaker.services.LatencyHistogram;
+
+/**
+ * Shows the p50, p99 and max of every GameLoop phase, of whole ticks and of
+ * the parts of a pulse, in microseconds. The numbers cover the last second
+ * and are refreshed once a second, the profiler starting over each time.
+ * <p>
+ * Sits in the top left corner of a Game, which is flipped upside down.
+ */
+public class ProfilerOverlay extends GameText {
+    private static final double REFRESH_SECONDS = 1;
+    private static final double MARGIN = 10;
+    private final FrameProfiler profiler;
+    private final double gameHeight;
+    private final StringBuilder text = new StringBuilder();
+    private double elapsed = 0;
+
+    public ProfilerOverlay(FrameProfiler profiler, double gameHeight) {
+        this.profiler = profiler;
+        this.gameHeight = gameHeight;
+        setFont(Font.font("Monospaced", 12));
+        setFill(Color.YELLOW);
+        setTextOrigin(VPos.TOP);
+        setMouseTransparent(true);
+        setVisible(false);
+    }
+
+    /**
+     * Clears the numbers and shows the overlay, or hides it
+     */
+    public void toggle() {
+        setVisible(!isVisible());
+        if (!isVisible()) return;
+        profiler.reset();
+        elapsed = 0;
+        show();
+    }
+
+    public void update(double elapsedSeconds) {
+        elapsed += elapsedSeconds;
+        if (elapsed < REFRESH_SECONDS) return;
+        elapsed = 0;
+        show();
+        profiler.reset();
+    }
+
+    private void show() {
+        text.setLength(0);
+        text.append(String.format("%-13s %8s %8s %8s%n", "us", "p50", "p99",
+                "max"));
+        for (GameLoop.Phase phase : GameLoop.Phase.values()) {
+            row(phase.name().toLowerCase(), profiler.get(phase));
+        }
+        row("tick", profiler.getTicks());
+        for (FrameProfiler.Section section : FrameProfiler.Section.values()) {
+            row(section.name().toLowerCase(), profiler.get(section));
+        }
+        setText(text.toString());
+
+        // The text is flipped around its own middle, so its bottom edge in
+        // the game's coordinates is its top on screen
+        setY(gameHeight - MARGIN - getLayoutBounds().getHeight());
+        setX(MARGIN);
+    }
+
+    private void row(String name, LatencyHistogram histogram) {
+        text.append(String.format("%-13s %8.1f %8.1f %8.1f%n", name,
+                histogram.percentile(50) / 1e3,
+                histogram.percentile(99) / 1e3, histogram.getMax() / 1e3));
+    }
+}
@@ -0,0 +1,183 @@
+package rainmaker.geometry;
+
+import rainmaker.services.BezierOval;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outline of a model for collision tests: a union of convex polygons in the
+ * model's local coordinates, plus a copy of them placed in the world. The
+ * world copy is only recomputed when the transform actually changes, so
+ * testing a shape repeatedly within a tick costs nothing extra.
+ * <p>
+ * Tests go from cheapest to most expensive: whole shape bounds, then the
+ * bounds of each pair of pieces, then the separating axis test.
+ */
+public class CollisionShape {
+    private final double[][] localPieces;
+    private final double[][] worldPieces;
+    // {minX, minY, maxX, maxY} of each world piece
+    private final double[][] pieceBounds;
+    private double minX;
+    private double minY;
+    private double maxX;
+    private double maxY;
+    private double x = Double.NaN;
+    private double y = Double.NaN;
+    private double rotation = Double.NaN;
+    private double scale = Double.NaN;
+
+    /**
+     * Each piece is a convex polygon as {x0, y0, x1, y1, ...}
+     */
+    public CollisionShape(List<double[]> pieces) {
+        int count = pieces.size();
+        localPieces = new double[count][];
+        worldPieces = new double[count][];
+        pieceBounds = new double[count][4];
+        for (int i = 0; i < count; i++) {
+            localPieces[i] = pieces.get(i).clone();
+            worldPieces[i] = new double[localPieces[i].length];
+        }
+        setTransform(0, 0, 0, 1);
+    }
+
+    /**
+     * Shares the local pieces, which never change, with the given shape
+     */
+    private CollisionShape(CollisionShape template) {
+        int count = template.localPieces.length;
+        localPieces = template.localPieces;
+        worldPieces = new double[count][];
+        pieceBounds = new double[count][4];
+        for (int i = 0; i < count; i++) {
+            worldPieces[i] = new double[localPieces[i].length];
+        }
+        setTransform(0, 0, 0, 1);
+    }
+
+    /**
+     * The same outline with a placement of its own, for many objects of the
+     * same shape. Only the world coordinates are allocated again.
+     */
+    public CollisionShape copy() {
+        return new CollisionShape(this);
+    }
+
+    public static CollisionShape rectangle(double minX, double minY,
+                                           double width, double height) {
+        List<double[]> pieces = new ArrayList<>();
+        pieces.add(new double[]{
+                minX, minY,
+                minX + width, minY,
+                minX + width, minY + height,
+                minX, minY + height
+        });
+        return new CollisionShape(pieces);
+    }
+
+    /**
+     * The oval's flattened polygon plus one polygon per bump, the flattened
+     * curve closed by its chord. A quadratic bezier never changes direction
+     * of bending, so every bump is convex.
+     */
+    public static CollisionShape fromBezierOval(BezierOval oval) {
+        List<double[]> pieces = new ArrayList<>();
+        pieces.add(oval.getFlatOval());
+        pieces.addAll(oval.getFlatBumps());
+        return new CollisionShape(pieces);
+    }
+
+    /**
+     * Places the shape in the world: scaled, then rotated by the given
+     * degrees around the local origin, then moved to (x, y)
+     */
+    public void setTransform(double x, double y, double rotation,
+                             double scale) {
+        if (x == this.x && y == this.y && rotation == this.rotation &&
+                scale == this.scale) return;
+        this.x = x;
+        this.y = y;
+        this.rotation = rotation;
+        this.scale = scale;
+
+        double radians = Math.toRadians(rotation);
+        double cos = Math.cos(radians) * scale;
+        double sin = Math.sin(radians) * scale;
+
+        minX = Double.POSITIVE_INFINITY;
+        minY = Double.POSITIVE_INFINITY;
+        maxX = Double.NEGATIVE_INFINITY;
+        maxY = Double.NEGATIVE_INFINITY;
+        for (int p = 0; p < localPieces.length; p++) {
+            double[] local = localPieces[p];
+            double[] world = worldPieces[p];
+            double[] bounds = pieceBounds[p];
+            bounds[0] = Double.POSITIVE_INFINITY;
+            bounds[1] = Double.POSITIVE_INFINITY;
+            bounds[2] = Double.NEGATIVE_INFINITY;
+            bounds[3] = Double.NEGATIVE_INFINITY;
+            for (int v = 0; v < local.length; v += 2) {
+                double worldX = x + local[v] * cos - local[v + 1] * sin;
+                double worldY = y + local[v] * sin + local[v + 1] * cos;
+                world[v] = worldX;
+                world[v + 1] = worldY;
+                bounds[0] = Math.min(bounds[0], worldX);
+                bounds[1] = Math.min(bounds[1], worldY);
+                bounds[2] = Math.max(bounds[2], worldX);
+                bounds[3] = Math.max(bounds[3], worldY);
+            }
+            minX = Math.min(minX, bounds[0]);
+            minY = Math.min(minY, bounds[1]);
+            maxX = Math.max(maxX, bounds[2]);
+            maxY = Math.max(maxY, bounds[3]);
+        }
+    }
+
+    public boolean intersects(CollisionShape other) {
+        if (!overlaps(minX, minY, maxX, maxY, other.minX, other.minY,
+                other.maxX, other.maxY)) return false;
+
+        for (int i = 0; i < worldPieces.length; i++) {
+            double[] bounds = pieceBounds[i];
+            if (!overlaps(bounds[0], bounds[1], bounds[2], bounds[3],
+                    other.minX, other.minY, other.maxX, other.maxY)) continue;
+
+            for (int j = 0; j < other.worldPieces.length; j++) {
+                double[] otherBounds = other.pieceBounds[j];
+                if (!overlaps(bounds[0], bounds[1], bounds[2], bounds[3],
+                        otherBounds[0], otherBounds[1], otherBounds[2],
+                        otherBounds[3])) continue;
+
+                if (SeparatingAxis.intersects(worldPieces[i],
+                        other.worldPieces[j])) return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean overlaps(double minX, double minY, double maxX,
+                                    double maxY, double otherMinX,
+                                    double otherMinY, double otherMaxX,
+                                    double otherMaxY) {
+        return minX <= otherMaxX && maxX >= otherMinX &&
+                minY <= otherMaxY && maxY >= otherMinY;
+    }
+
+    public double getMinX() {
+        return minX;
+    }
+
+    public double getMinY() {
+        return minY;
+    }
+
+    public double getMaxX() {
+        return maxX;
+    }
+
+    public double getMaxY() {
+        return maxY;
+    }
+}
@@ -0,0 +1,129 @@
+package rainmaker.geometry;
+
+import rainmaker.services.RandomGenerator;
+
+import java.util.Arrays;
+
+/**
+ * Poisson disk sampling (Bridson's algorithm): random points in a rectangle
+ * no two of which are closer than a minimum distance, packed until there is
+ * no room for more.
+ * <p>
+ * New points are only tried around points already placed, a fixed number of
+ * times each, and a background grid with at most one point per cell answers
+ * whether a candidate is too close in constant time. Sampling therefore
+ * always finishes, in time proportional to the number of points placed.
+ * <p>
+ * Every candidate that is far enough from the others is offered to a
+ * Placement, which can turn it down, for example when it's on an obstacle.
+ */
+public final class PoissonDisk {
+    // Candidates tried around each point before it is given up on
+    private static final int CANDIDATES = 30;
+
+    private PoissonDisk() {
+    }
+
+    public interface Placement {
+        /**
+         * Places something at the point, or returns false to leave it empty
+         */
+        boolean place(double x, double y);
+    }
+
+    /**
+     * Samples points inside the rectangle until no more fit or maxPoints
+     * have been placed, returns how many were
+     */
+    public static int sample(RandomGenerator random, double minX, double minY,
+                             double maxX, double maxY, double minDistance,
+                             int maxPoints, Placement placement) {
+        if (maxX < minX || maxY < minY || maxPoints <= 0) return 0;
+
+        // Cells small enough that two points can't share one
+        double cellSize = minDistance / Math.sqrt(2);
+        int columns = Math.max(1, (int) Math.ceil((maxX - minX) / cellSize));
+        int rows = Math.max(1, (int) Math.ceil((maxY - minY) / cellSize));
+        int capacity = (int) Math.min(maxPoints, (long) columns * rows);
+        int[] grid = new int[columns * rows];
+        Arrays.fill(grid, -1);
+        double[] xs = new double[capacity];
+        double[] ys = new double[capacity];
+        int[] active = new int[capacity];
+        int count = 0;
+        int activeCount = 0;
+
+        for (int i = 0; i < CANDIDATES && count == 0; i++) {
+            double x = random.getRandomDouble(minX, maxX);
+            double y = random.getRandomDouble(minY, maxY);
+            if (!placement.place(x, y)) continue;
+            add(grid, cell(x, minX, cellSize, columns),
+                    cell(y, minY, cellSize, rows), columns, xs, ys, count,
+                    x, y);
+            active[activeCount++] = count++;
+        }
+
+        double minDistanceSq = minDistance * minDistance;
+        while (activeCount > 0 && count < capacity) {
+            int index = random.getRandomInt(0, activeCount - 1);
+            int point = active[index];
+            boolean placed = false;
+            for (int i = 0; i < CANDIDATES && !placed; i++) {
+                // Somewhere between one and two minimum distances away
+                double angle = random.getRandomDouble(0, 2 * Math.PI);
+                double distance = random.getRandomDouble(minDistance,
+                        2 * minDistance);
+                double x = xs[point] + distance * Math.cos(angle);
+                double y = ys[point] + distance * Math.sin(angle);
+                if (x < minX || x > maxX || y < minY || y > maxY) continue;
+
+                int column = cell(x, minX, cellSize, columns);
+                int row = cell(y, minY, cellSize, rows);
+                if (hasNeighbour(grid, column, row, columns, rows, xs, ys,
+                        x, y, minDistanceSq)) continue;
+                if (!placement.place(x, y)) continue;
+
+                add(grid, column, row, columns, xs, ys, count, x, y);
+                active[activeCount++] = count++;
+                placed = true;
+            }
+            if (!placed) active[index] = active[--activeCount];
+        }
+        return count;
+    }
+
+    private static int cell(double value, double min, double cellSize,
+                            int count) {
+        return Math.min(count - 1, (int) ((value - min) / cellSize));
+    }
+
+    private static void add(int[] grid, int column, int row, int columns,
+                            double[] xs, double[] ys, int point, double x,
+                            double y) {
+        xs[point] = x;
+        ys[point] = y;
+        grid[row * columns + column] = point;
+    }
+
+    /**
+     * Whether a point closer than the minimum distance is in one of the
+     * cells that could hold one, two cells around in each direction
+     */
+    private static boolean hasNeighbour(int[] grid, int column, int row,
+                                        int columns, int rows, double[] xs,
+                                        double[] ys, double x, double y,
+                                        double minDistanceSq) {
+        for (int r = Math.max(0, row - 2); r <= Math.min(rows - 1, row + 2);
+             r++) {
+            for (int c = Math.max(0, column - 2);
+                 c <= Math.min(columns - 1, column + 2); c++) {
+                int point = grid[r * columns + c];
+                if (point < 0) continue;
+                double dx = xs[point] - x;
+                double dy = ys[point] - y;
+                if (dx * dx + dy * dy < minDistanceSq) return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,58 @@
+package rainmaker.geometry;
+
+/**
+ * Separating axis test for convex polygons stored as flat arrays of
+ * {x0, y0, x1, y1, ...}. Two convex polygons are disjoint exactly when the
+ * normal of one of their edges separates their projections.
+ */
+public final class SeparatingAxis {
+    private SeparatingAxis() {
+    }
+
+    /**
+     * True if the two convex polygons overlap or touch. Vertex order (clock
+     * or counter clockwise) doesn't matter.
+     */
+    public static boolean intersects(double[] polygon, int polygonLength,
+                                     double[] other, int otherLength) {
+        return !hasSeparatingEdge(polygon, polygonLength, other, otherLength)
+                && !hasSeparatingEdge(other, otherLength, polygon,
+                polygonLength);
+    }
+
+    public static boolean intersects(double[] polygon, double[] other) {
+        return intersects(polygon, polygon.length, other, other.length);
+    }
+
+    /**
+     * Tries the normal of every edge of the first polygon as an axis
+     */
+    private static boolean hasSeparatingEdge(double[] polygon, int length,
+                                             double[] other,
+                                             int otherLength) {
+        for (int i = 0; i < length; i += 2) {
+            int next = (i + 2) % length;
+            double axisX = polygon[i + 1] - polygon[next + 1];
+            double axisY = polygon[next] - polygon[i];
+
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int v = 0; v < length; v += 2) {
+                double projection = polygon[v] * axisX + polygon[v + 1] * axisY;
+                min = Math.min(min, projection);
+                max = Math.max(max, projection);
+            }
+
+            double otherMin = Double.POSITIVE_INFINITY;
+            double otherMax = Double.NEGATIVE_INFINITY;
+            for (int v = 0; v < otherLength; v += 2) {
+                double projection = other[v] * axisX + other[v + 1] * axisY;
+                otherMin = Math.min(otherMin, projection);
+                otherMax = Math.max(otherMax, projection);
+            }
+
+            if (max < otherMin || otherMax < min) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,31 @@
+package rainmaker.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The updatables of one GameLoop phase running during a tick
+ */
+@Name("rainmaker.Phase")
+@Label("Tick Phase")
+@Category({"RainMaker", "Simulation"})
+@Description("One phase of a game loop tick")
+@StackTrace(false)
+public class PhaseEvent extends jdk.jfr.Event {
+    private static final EventType TYPE =
+            EventType.getEventType(PhaseEvent.class);
+
+    @Label("Phase")
+    public String phase;
+
+    @Label("Tick")
+    public long tick;
+
+    public static boolean isTypeEnabled() {
+        return TYPE.isEnabled();
+    }
+}
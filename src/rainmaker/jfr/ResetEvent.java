@@ -0,0 +1,29 @@
+package rainmaker.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A world starting over, which drops every object and generates the chunks
+ * around the new helicopter
+ */
+@Name("rainmaker.Reset")
+@Label("World Reset")
+@Category({"RainMaker", "World"})
+@Description("A world starting over")
+@StackTrace(false)
+public class ResetEvent extends jdk.jfr.Event {
+    private static final EventType TYPE =
+            EventType.getEventType(ResetEvent.class);
+
+    @Label("Seed")
+    public long seed;
+
+    public static boolean isTypeEnabled() {
+        return TYPE.isEnabled();
+    }
+}
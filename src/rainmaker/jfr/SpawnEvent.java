@@ -0,0 +1,54 @@
+package rainmaker.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * An object entering or leaving a world: a cloud or blimp spawning or
+ * dying, or a pond coming and going with its chunk
+ */
+@Name("rainmaker.Spawn")
+@Label("Spawn")
+@Category({"RainMaker", "World"})
+@Description("An object added to or removed from a world")
+@StackTrace(false)
+public class SpawnEvent extends jdk.jfr.Event {
+    private static final EventType TYPE =
+            EventType.getEventType(SpawnEvent.class);
+
+    @Label("Kind")
+    @Description("cloud, blimp or pond")
+    public String kind;
+
+    @Label("Removed")
+    @Description("Whether the object left the world rather than entered it")
+    public boolean removed;
+
+    @Label("X")
+    public double x;
+
+    @Label("Y")
+    public double y;
+
+    public static boolean isTypeEnabled() {
+        return TYPE.isEnabled();
+    }
+
+    /**
+     * Records the event if spawns are being recorded
+     */
+    public static void emit(String kind, boolean removed, double x,
+                            double y) {
+        if (!isTypeEnabled()) return;
+        SpawnEvent event = new SpawnEvent();
+        event.kind = kind;
+        event.removed = removed;
+        event.x = x;
+        event.y = y;
+        event.commit();
+    }
+}
@@ -0,0 +1,38 @@
+package rainmaker.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One fixed tick of a GameLoop, from its first phase to the end of its
+ * last. Recorded with src/resources/rainmaker.jfc, for example:
+ * <pre>
+ * java -XX:StartFlightRecording:settings=src/resources/rainmaker.jfc,
+ *     maxage=10m,dumponexit=true,filename=rainmaker.jfr ...
+ * </pre>
+ */
+@Name("rainmaker.Tick")
+@Label("Tick")
+@Category({"RainMaker", "Simulation"})
+@Description("One fixed tick of a game loop")
+@StackTrace(false)
+public class TickEvent extends jdk.jfr.Event {
+    private static final EventType TYPE =
+            EventType.getEventType(TickEvent.class);
+
+    @Label("Tick")
+    @Description("Ticks the loop had run before this one")
+    public long tick;
+
+    /**
+     * Checked before creating an event, so nothing is allocated for events
+     * that aren't being recorded
+     */
+    public static boolean isTypeEnabled() {
+        return TYPE.isEnabled();
+    }
+}
@@ -0,0 +1,45 @@
+package rainmaker.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * What a world held at the end of a tick and how many pairs of objects its
+ * interactions tested against each other during it
+ */
+@Name("rainmaker.WorldTick")
+@Label("World Tick")
+@Category({"RainMaker", "Simulation"})
+@Description("Object counts and collision checks of a world tick")
+@StackTrace(false)
+public class WorldTickEvent extends jdk.jfr.Event {
+    private static final EventType TYPE =
+            EventType.getEventType(WorldTickEvent.class);
+
+    @Label("Tick")
+    public long tick;
+
+    @Label("Clouds")
+    public int clouds;
+
+    @Label("Ponds")
+    public int ponds;
+
+    @Label("Blimps")
+    public int blimps;
+
+    @Label("Loaded Chunks")
+    public int chunks;
+
+    @Label("Collision Checks")
+    @Description("Pairs of objects tested for overlap or distance")
+    public int collisionChecks;
+
+    public static boolean isTypeEnabled() {
+        return TYPE.isEnabled();
+    }
+}
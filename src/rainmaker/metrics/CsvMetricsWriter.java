@@ -0,0 +1,81 @@
+package rainmaker.metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Appends metrics rows to a CSV file on a background thread, so the game
+ * never waits on the disk. Once the file would grow past maxBytes it is
+ * moved aside to the same name ending in ".1", replacing the one there, and
+ * a new file is started, so at most twice maxBytes are ever kept. A file
+ * left by an earlier run is moved aside the same way, its columns may not
+ * be the same.
+ */
+public class CsvMetricsWriter implements AutoCloseable {
+    private final Path path;
+    private final Path previous;
+    private final long maxBytes;
+    private final String header;
+    private final ExecutorService executor;
+    private boolean started = false;
+    private boolean failed = false;
+
+    public CsvMetricsWriter(Path path, long maxBytes, String header) {
+        this.path = path;
+        this.previous = path.resolveSibling(path.getFileName() + ".1");
+        this.maxBytes = maxBytes;
+        this.header = header;
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-csv");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void append(String row) {
+        executor.execute(() -> write(row));
+    }
+
+    private void write(String row) {
+        try {
+            byte[] line = (row + "\n").getBytes(StandardCharsets.UTF_8);
+            if (Files.exists(path) && (!started ||
+                    Files.size(path) + line.length > maxBytes)) {
+                Files.move(path, previous,
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+            if (!Files.exists(path)) {
+                Files.write(path, (header + "\n").getBytes(
+                        StandardCharsets.UTF_8));
+            }
+            Files.write(path, line, StandardOpenOption.APPEND);
+            started = true;
+            failed = false;
+        } catch (IOException e) {
+            // Once per run of failures, not for every row
+            if (!failed) System.err.println("Could not write metrics: " + e);
+            failed = true;
+        }
+    }
+
+    /**
+     * Writes the rows still queued and stops, waiting a little for them so
+     * the last row isn't lost or cut short when the game exits
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package rainmaker.metrics;
+
+import rainmaker.services.LatencyHistogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Named values read on demand, written out in the Prometheus text format or
+ * as CSV rows. Metrics only say where their value comes from, so reading
+ * them has to happen on the thread that owns those values; what's written
+ * out is plain text that can be handed to any thread.
+ */
+public class MetricsRegistry {
+    private final List<Metric> metrics = new ArrayList<>();
+
+    private abstract static class Metric {
+        final String name;
+        final String help;
+
+        Metric(String name, String help) {
+            this.name = name;
+            this.help = help;
+        }
+
+        abstract String type();
+
+        abstract void writePrometheus(StringBuilder out);
+
+        abstract void writeCsvHeader(StringBuilder out);
+
+        abstract void writeCsv(StringBuilder out);
+    }
+
+    /**
+     * A value that goes up and down
+     */
+    public void gauge(String name, String help, DoubleSupplier value) {
+        metrics.add(new Metric(name, help) {
+            String type() {
+                return "gauge";
+            }
+
+            void writePrometheus(StringBuilder out) {
+                line(out, name, "", value.getAsDouble());
+            }
+
+            void writeCsvHeader(StringBuilder out) {
+                out.append(',').append(name);
+            }
+
+            void writeCsv(StringBuilder out) {
+                out.append(',').append(format(value.getAsDouble()));
+            }
+        });
+    }
+
+    /**
+     * A total that only ever goes up while the process runs
+     */
+    public void counter(String name, String help, LongSupplier value) {
+        metrics.add(new Metric(name, help) {
+            String type() {
+                return "counter";
+            }
+
+            void writePrometheus(StringBuilder out) {
+                line(out, name, "", value.getAsLong());
+            }
+
+            void writeCsvHeader(StringBuilder out) {
+                out.append(',').append(name);
+            }
+
+            void writeCsv(StringBuilder out) {
+                out.append(',').append(value.getAsLong());
+            }
+        });
+    }
+
+    /**
+     * Durations recorded into the histogram, exposed in seconds with the
+     * given bucket bounds. The CSV gets its p50, p99 and max instead.
+     */
+    public void histogram(String name, String help,
+                          LatencyHistogram histogram,
+                          double... bucketSeconds) {
+        metrics.add(new Metric(name, help) {
+            String type() {
+                return "histogram";
+            }
+
+            void writePrometheus(StringBuilder out) {
+                for (double bound : bucketSeconds) {
+                    line(out, name + "_bucket", "le=\"" + format(bound) + "\"",
+                            histogram.countAtOrBelow((long) (bound * 1e9)));
+                }
+                line(out, name + "_bucket", "le=\"+Inf\"",
+                        histogram.getCount());
+                line(out, name + "_sum", "", histogram.getSum() / 1e9);
+                line(out, name + "_count", "", histogram.getCount());
+            }
+
+            void writeCsvHeader(StringBuilder out) {
+                out.append(',').append(name).append("_p50");
+                out.append(',').append(name).append("_p99");
+                out.append(',').append(name).append("_max");
+            }
+
+            void writeCsv(StringBuilder out) {
+                out.append(',').append(format(histogram.percentile(50) / 1e9));
+                out.append(',').append(format(histogram.percentile(99) / 1e9));
+                out.append(',').append(format(histogram.getMax() / 1e9));
+            }
+        });
+    }
+
+    /**
+     * Every metric's current value, in the Prometheus text format
+     */
+    public String scrape() {
+        StringBuilder out = new StringBuilder();
+        for (Metric metric : metrics) {
+            out.append("# HELP ").append(metric.name).append(' ')
+                    .append(metric.help).append('\n');
+            out.append("# TYPE ").append(metric.name).append(' ')
+                    .append(metric.type()).append('\n');
+            metric.writePrometheus(out);
+        }
+        return out.toString();
+    }
+
+    public String csvHeader() {
+        StringBuilder out = new StringBuilder("timestamp");
+        for (Metric metric : metrics) {
+            metric.writeCsvHeader(out);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Every metric's current value as one CSV row, after the given time in
+     * milliseconds since the epoch
+     */
+    public String csvRow(long timestamp) {
+        StringBuilder out = new StringBuilder();
+        out.append(timestamp);
+        for (Metric metric : metrics) {
+            metric.writeCsv(out);
+        }
+        return out.toString();
+    }
+
+    private static void line(StringBuilder out, String name, String labels,
+                             double value) {
+        out.append(name);
+        if (!labels.isEmpty()) out.append('{').append(labels).append('}');
+        out.append(' ').append(format(value)).append('\n');
+    }
+
+    private static String format(double value) {
+        if (value == (long) value) return Long.toString((long) value);
+        return Double.toString(value);
+    }
+}
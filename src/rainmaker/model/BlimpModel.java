@@ -0,0 +1,123 @@
+package rainmaker.model;
+
+import rainmaker.Updatable;
+import rainmaker.geometry.CollisionShape;
+import rainmaker.services.RandomGenerator;
+import rainmaker.services.StateVector;
+import rainmaker.services.Vector;
+
+public class BlimpModel extends TransientModel implements Updatable {
+    public static final double BODY_WIDTH = 180;
+    public static final double BODY_HEIGHT = 70;
+    public static final double PROPELLER_WIDTH = 30;
+    public static final double PROPELLER_HEIGHT = 80;
+    // The propeller hangs off the back of the body
+    public static final double PROPELLER_OFFSET_X = -BODY_WIDTH / 2 - 15;
+    public static final double PROPELLER_OFFSET_Y = -BODY_HEIGHT / 2 - 5;
+    private static final double HEADING = 0;
+    private double distanceFromMainPlayer;
+    private double fuel;
+    private boolean refueling = false;
+
+    public BlimpModel(double fuel, Vector spawnPosition,
+                      RandomGenerator random) {
+        this();
+        respawn(spawnPosition.getX(), spawnPosition.getY());
+        init(fuel, random);
+    }
+
+    /**
+     * A blimp that hasn't been spawned yet, only to be pooled and respawned
+     */
+    BlimpModel() {
+        super(new Vector(0, 0));
+        setLocalBounds(PROPELLER_OFFSET_X, PROPELLER_OFFSET_Y,
+                BODY_WIDTH / 2, PROPELLER_OFFSET_Y + PROPELLER_HEIGHT);
+        collisionShape = CollisionShape.rectangle(-BODY_WIDTH / 2,
+                -BODY_HEIGHT / 2, BODY_WIDTH, BODY_HEIGHT);
+    }
+
+    private void init(double fuel, RandomGenerator random) {
+        double speed = random.getRandomDouble(3, 5);
+
+        this.fuel = fuel;
+        distanceFromMainPlayer = 0;
+        refueling = false;
+
+        setHeading(HEADING);
+        setSpeed(speed);
+    }
+
+    public static BlimpModel getRandomBlimp(RandomGenerator random) {
+        BlimpModel blimp = new BlimpModel();
+        blimp.respawnRandom(random, WorldBounds.DEFAULT);
+        return blimp;
+    }
+
+    /**
+     * Resets every bit of state to that of a new random blimp, drawing the
+     * same numbers as creating one would. Blimps enter from the world's left
+     * edge.
+     */
+    public void respawnRandom(RandomGenerator random, WorldBounds world) {
+        double fuel = random.getRandomDouble(5000, 10000);
+        fuel = Math.round(fuel / 1000) * 1000;
+
+        double x, y;
+        x = -(BODY_WIDTH + PROPELLER_WIDTH);
+        y = random.getRandomDouble(BODY_HEIGHT / 2,
+                world.getHeight() - BODY_HEIGHT / 2);
+
+        respawn(x, y, world);
+        init(fuel, random);
+    }
+
+    @Override
+    void save(StateVector out) {
+        out.putDouble(fuel);
+        out.putBoolean(refueling);
+        out.putDouble(distanceFromMainPlayer);
+        super.save(out);
+    }
+
+    @Override
+    void restore(StateVector in, WorldBounds world) {
+        fuel = in.getDouble();
+        refueling = in.getBoolean();
+        distanceFromMainPlayer = in.getDouble();
+        super.restore(in, world);
+    }
+
+    public void updateDistanceFromMainPlayer(double distance) {
+        distanceFromMainPlayer = distance;
+    }
+
+    public double getDistanceFromMainPlayer() {
+        return distanceFromMainPlayer;
+    }
+
+    public void isRefueling(boolean refueling) {
+        this.refueling = refueling;
+    }
+
+    public boolean isRefueling() {
+        return refueling;
+    }
+
+    public double getFuel() {
+        return fuel;
+    }
+
+    @Override
+    public void update(double frameTime) {
+        move(frameTime);
+    }
+
+    public double siphonFuel(double amount) {
+        if (fuel < amount) {
+            amount = fuel;
+        }
+        fuel -= amount;
+        return amount;
+    }
+}
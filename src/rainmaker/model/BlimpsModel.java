@@ -0,0 +1,144 @@
+package rainmaker.model;
+
+import rainmaker.Updatable;
+import rainmaker.services.CoinSide;
+import rainmaker.services.ObjectPool;
+import rainmaker.services.RandomGenerator;
+import rainmaker.services.StateVector;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class BlimpsModel implements Updatable, Iterable<BlimpModel> {
+    private static final int MAX_BLIMPS = 2;
+    private static final int MIN_BLIMPS = 0;
+    private static final int MAX_POOLED = 8;
+    private final ArrayList<BlimpModel> blimps = new ArrayList<>();
+    private final SpatialGrid<BlimpModel> grid;
+    // Dead blimps, respawned instead of creating new ones
+    private final ObjectPool<BlimpModel> pool =
+            new ObjectPool<>(BlimpModel::new, MAX_POOLED);
+    private final RandomGenerator random;
+    private final WorldBounds world;
+    private final int maxBlimps;
+    // Blimps that arrive together, as many as the world's density
+    private final int spawnCount;
+    private double elapsed = 0;
+    private Consumer<BlimpModel> onBlimpAdded;
+    private Consumer<BlimpModel> onBlimpRemoved;
+
+    public BlimpsModel(RandomGenerator random) {
+        this(random, WorldBounds.DEFAULT);
+    }
+
+    public BlimpsModel(RandomGenerator random, WorldBounds world) {
+        this.random = random;
+        this.world = world;
+        grid = new SpatialGrid<>(world);
+        maxBlimps = world.scaleCount(MAX_BLIMPS);
+        spawnCount = world.getDensity();
+    }
+
+    public void setOnBlimpAdded(Consumer<BlimpModel> action) {
+        this.onBlimpAdded = action;
+    }
+
+    public void setOnBlimpRemoved(Consumer<BlimpModel> action) {
+        this.onBlimpRemoved = action;
+    }
+
+    public void clear() {
+        for (int i = 0; i < blimps.size(); i++) {
+            pool.release(blimps.get(i));
+        }
+        blimps.clear();
+        grid.clear();
+        elapsed = 0;
+    }
+
+    void save(StateVector out) {
+        random.save(out);
+        out.putDouble(elapsed);
+        out.putInt(blimps.size());
+        for (int i = 0; i < blimps.size(); i++) {
+            blimps.get(i).save(out);
+        }
+    }
+
+    /**
+     * Replaces the blimps with the saved ones without telling anyone, like
+     * clear() does
+     */
+    void restore(StateVector in) {
+        clear();
+        random.restore(in);
+        elapsed = in.getDouble();
+        int count = in.getInt();
+        for (int i = 0; i < count; i++) {
+            BlimpModel blimp = pool.acquire();
+            blimp.restore(in, world);
+            blimps.add(blimp);
+            grid.add(blimp);
+        }
+    }
+
+    public int size() {
+        return blimps.size();
+    }
+
+    public BlimpModel get(int index) {
+        return blimps.get(index);
+    }
+
+    /**
+     * Blimps that may overlap the bounds of the given object
+     */
+    public void findNear(ObjectModel area, List<BlimpModel> out) {
+        grid.query(area, out);
+    }
+
+    @Override
+    public void update(double frameTime) {
+        // loop through all blimps, remove if dead
+        for (int i = 0; i < blimps.size(); i++) {
+            BlimpModel blimp = blimps.get(i);
+            blimp.update(frameTime);
+            if (blimp.isDead()) {
+                blimps.remove(blimp);
+                grid.remove(blimp);
+                if (onBlimpRemoved != null) onBlimpRemoved.accept(blimp);
+                pool.release(blimp);
+            } else {
+                grid.update(blimp);
+            }
+        }
+
+        if (blimps.size() < maxBlimps) {
+            elapsed += frameTime;
+            if (elapsed > 3) {
+                elapsed = 0;
+                if (random.flipCoin() == CoinSide.HEADS) {
+                    for (int i = 0; i < spawnCount &&
+                            blimps.size() < maxBlimps; i++) {
+                        spawn();
+                    }
+                }
+            }
+        }
+    }
+
+    private void spawn() {
+        BlimpModel blimp = pool.acquire();
+        blimp.respawnRandom(random, world);
+        blimps.add(blimp);
+        grid.add(blimp);
+        if (onBlimpAdded != null) onBlimpAdded.accept(blimp);
+    }
+
+    @Override
+    public Iterator<BlimpModel> iterator() {
+        return blimps.iterator();
+    }
+}
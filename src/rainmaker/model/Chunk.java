@@ -0,0 +1,80 @@
+package rainmaker.model;
+
+import rainmaker.services.RandomGenerator;
+
+/**
+ * A square piece of the world, the unit it is generated and kept in memory
+ * in. Whatever is generated for a chunk comes from the chunk's own seed, so
+ * it turns out the same whenever, and in whatever order, chunks are loaded.
+ * Chunks along the right and top edges are cut off where the world ends.
+ */
+public final class Chunk {
+    // A default world is exactly one chunk
+    public static final double SIZE = World.WIDTH;
+    private final int column;
+    private final int row;
+    private final long seed;
+    private final double maxX;
+    private final double maxY;
+
+    Chunk(int column, int row, long seed, WorldBounds world) {
+        this.column = column;
+        this.row = row;
+        this.seed = seed;
+        maxX = Math.min((column + 1) * SIZE, world.getWidth());
+        maxY = Math.min((row + 1) * SIZE, world.getHeight());
+    }
+
+    /**
+     * Packs chunk coordinates into one number, for keeping chunk state in
+     * maps
+     */
+    static long key(int column, int row) {
+        return ((long) row << 32) | (column & 0xffffffffL);
+    }
+
+    long getKey() {
+        return key(column, row);
+    }
+
+    public int getColumn() {
+        return column;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public double getMinX() {
+        return column * SIZE;
+    }
+
+    public double getMinY() {
+        return row * SIZE;
+    }
+
+    public double getMaxX() {
+        return maxX;
+    }
+
+    public double getMaxY() {
+        return maxY;
+    }
+
+    /**
+     * Share of a whole chunk's area this one covers, less than one for
+     * chunks cut off by the world's edges
+     */
+    public double getAreaFraction() {
+        return (maxX - getMinX()) * (maxY - getMinY()) / (SIZE * SIZE);
+    }
+
+    /**
+     * Numbers for one kind of content of the chunk, each stream gives the
+     * same numbers every time it's asked for
+     */
+    public RandomGenerator random(int stream) {
+        long streamSeed = seed ^ (stream * 0x9e3779b97f4a7c15L);
+        return new RandomGenerator(streamSeed);
+    }
+}
@@ -0,0 +1,202 @@
+package rainmaker.model;
+
+import rainmaker.Updatable;
+import rainmaker.services.StateVector;
+
+import java.util.ArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the chunks around the helicopter loaded and lets go of the ones it
+ * has left far behind. Chunks are loaded within LOAD_RADIUS chunks of the
+ * one the helicopter is over and unloaded beyond UNLOAD_RADIUS, the gap
+ * between the two keeps a chunk from being loaded and unloaded over and
+ * over by flying back and forth across its edge.
+ * <p>
+ * However large the world, no more than (2 * UNLOAD_RADIUS + 1)^2 chunks
+ * are ever loaded. Nothing is allocated unless the helicopter crosses into
+ * another chunk.
+ */
+public class Chunks implements Updatable {
+    public static final int LOAD_RADIUS = 1;
+    public static final int UNLOAD_RADIUS = 2;
+    private final WorldBounds world;
+    private final int columns;
+    private final int rows;
+    private final ArrayList<Chunk> loaded = new ArrayList<>();
+    private long seed;
+    private ObjectModel focus;
+    private int focusColumn;
+    private int focusRow;
+    private Consumer<Chunk> onChunkLoaded;
+    private Consumer<Chunk> onChunkUnloaded;
+
+    public Chunks(WorldBounds world) {
+        this.world = world;
+        columns = Math.max(1, (int) Math.ceil(world.getWidth() / Chunk.SIZE));
+        rows = Math.max(1, (int) Math.ceil(world.getHeight() / Chunk.SIZE));
+    }
+
+    public void setOnChunkLoaded(Consumer<Chunk> action) {
+        this.onChunkLoaded = action;
+    }
+
+    public void setOnChunkUnloaded(Consumer<Chunk> action) {
+        this.onChunkUnloaded = action;
+    }
+
+    /**
+     * Forgets every chunk, without unloading them one by one, and loads the
+     * ones around the new focus. Chunks are generated from the given seed
+     * from now on.
+     */
+    public void reset(long seed, ObjectModel focus) {
+        this.seed = seed;
+        this.focus = focus;
+        loaded.clear();
+        focusColumn = column(focus.getX());
+        focusRow = row(focus.getY());
+        loadAround(focusColumn, focusRow);
+    }
+
+    void save(StateVector out) {
+        out.putLong(seed);
+        out.putInt(focusColumn);
+        out.putInt(focusRow);
+        out.putInt(loaded.size());
+        for (int i = 0; i < loaded.size(); i++) {
+            out.putInt(loaded.get(i).getColumn());
+            out.putInt(loaded.get(i).getRow());
+        }
+    }
+
+    /**
+     * Loads the saved chunks, in the same order, without telling anyone.
+     * Whatever they hold has to be loaded by the caller.
+     */
+    void restore(StateVector in, ObjectModel focus) {
+        this.focus = focus;
+        seed = in.getLong();
+        focusColumn = in.getInt();
+        focusRow = in.getInt();
+        loaded.clear();
+        int count = in.getInt();
+        for (int i = 0; i < count; i++) {
+            int column = in.getInt();
+            int row = in.getInt();
+            loaded.add(new Chunk(column, row, chunkSeed(column, row), world));
+        }
+    }
+
+    @Override
+    public void update(double frameTime) {
+        int column = column(focus.getX());
+        int row = row(focus.getY());
+        if (column == focusColumn && row == focusRow) return;
+        focusColumn = column;
+        focusRow = row;
+
+        for (int i = loaded.size() - 1; i >= 0; i--) {
+            Chunk chunk = loaded.get(i);
+            if (Math.abs(chunk.getColumn() - column) <= UNLOAD_RADIUS &&
+                    Math.abs(chunk.getRow() - row) <= UNLOAD_RADIUS) {
+                continue;
+            }
+            loaded.remove(i);
+            if (onChunkUnloaded != null) onChunkUnloaded.accept(chunk);
+        }
+        loadAround(column, row);
+    }
+
+    /**
+     * Loads, row by row, the chunks near the given one that aren't yet
+     */
+    private void loadAround(int column, int row) {
+        for (int r = Math.max(0, row - LOAD_RADIUS);
+             r <= Math.min(rows - 1, row + LOAD_RADIUS); r++) {
+            for (int c = Math.max(0, column - LOAD_RADIUS);
+                 c <= Math.min(columns - 1, column + LOAD_RADIUS); c++) {
+                if (find(c, r) != null) continue;
+                Chunk chunk = new Chunk(c, r, chunkSeed(c, r), world);
+                loaded.add(chunk);
+                if (onChunkLoaded != null) onChunkLoaded.accept(chunk);
+            }
+        }
+    }
+
+    private long chunkSeed(int column, int row) {
+        long hash = seed;
+        hash = hash * 31 + column;
+        hash = hash * 31 + row;
+        // Spread neighbouring chunks' seeds apart (SplitMix64 finalizer)
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+
+    private Chunk find(int column, int row) {
+        for (int i = 0; i < loaded.size(); i++) {
+            Chunk chunk = loaded.get(i);
+            if (chunk.getColumn() == column && chunk.getRow() == row) {
+                return chunk;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The loaded chunk the point is in, points outside the world belong to
+     * the chunk along the edge nearest to them. Null if that chunk isn't
+     * loaded.
+     */
+    public Chunk chunkAt(double x, double y) {
+        return find(column(x), row(y));
+    }
+
+    public boolean isLoaded(double x, double y) {
+        return chunkAt(x, y) != null;
+    }
+
+    /**
+     * Whether the chunk to the left of the given one is loaded, chunks
+     * without one are along the left edge of the loaded area
+     */
+    public boolean hasLoadedLeftNeighbour(Chunk chunk) {
+        return find(chunk.getColumn() - 1, chunk.getRow()) != null;
+    }
+
+    public WorldBounds getBounds() {
+        return world;
+    }
+
+    public int getLoadedCount() {
+        return loaded.size();
+    }
+
+    public Chunk getLoaded(int index) {
+        return loaded.get(index);
+    }
+
+    /**
+     * Area of the loaded chunks, in whole chunks
+     */
+    public double getLoadedArea() {
+        double area = 0;
+        for (int i = 0; i < loaded.size(); i++) {
+            area += loaded.get(i).getAreaFraction();
+        }
+        return area;
+    }
+
+    private int column(double x) {
+        return clamp((int) Math.floor(x / Chunk.SIZE), columns);
+    }
+
+    private int row(double y) {
+        return clamp((int) Math.floor(y / Chunk.SIZE), rows);
+    }
+
+    private static int clamp(int index, int count) {
+        return Math.max(0, Math.min(count - 1, index));
+    }
+}
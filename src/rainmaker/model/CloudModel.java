@@ -0,0 +1,168 @@
+package rainmaker.model;
+
+import rainmaker.Observer;
+import rainmaker.Updatable;
+import rainmaker.services.BezierOval;
+import rainmaker.services.RandomGenerator;
+import rainmaker.services.StateVector;
+import rainmaker.services.Vector;
+
+/**
+ * A cloud's outline is one of the shared CloudShapes, scaled. The cloud
+ * itself only keeps which one and how much it's scaled by.
+ */
+public class CloudModel extends TransientModel implements Updatable, Observer {
+    private static final double SATURATION_LOSS_DELAY_IN_SECS = 1;
+    private static final double MIN_SCALE = 0.9;
+    private static final double MAX_SCALE = 1.1;
+    private int shapeIndex = -1;
+    private double scale = 1;
+    private double speedOffset;
+    private int saturation = 0;
+    private double rainTimeElapsed = 0;
+
+    /**
+     * A cloud without a shape, only to be pooled and respawned
+     */
+    CloudModel() {
+        super(new Vector(0, 0));
+    }
+
+    public static CloudModel createRandomCloud(RandomGenerator random,
+                                               boolean onScreen) {
+        CloudModel cloud = new CloudModel();
+        cloud.respawnRandom(random, WorldBounds.DEFAULT, onScreen);
+        return cloud;
+    }
+
+    /**
+     * Resets every bit of state to that of a new random cloud. Pooled and
+     * new clouds draw the same numbers, so pooling doesn't change what a
+     * seed plays out as. Clouds that aren't spawned in the world drift in
+     * from its left edge.
+     */
+    public void respawnRandom(RandomGenerator random, WorldBounds world,
+                              boolean onScreen) {
+        respawnRandom(random, world, 0, 0, world.getWidth(),
+                world.getHeight(), onScreen);
+    }
+
+    /**
+     * A new random cloud inside the chunk. Clouds not spawned on screen
+     * drift in from the world's left edge, or start just inside the chunk's
+     * left edge when it's further in, where it is out of the camera's view.
+     */
+    public void respawnRandom(RandomGenerator random, WorldBounds world,
+                              Chunk chunk, boolean onScreen) {
+        respawnRandom(random, world, chunk.getMinX(), chunk.getMinY(),
+                chunk.getMaxX(), chunk.getMaxY(), onScreen);
+    }
+
+    private void respawnRandom(RandomGenerator random, WorldBounds world,
+                               double minX, double minY, double maxX,
+                               double maxY, boolean onScreen) {
+        int index = random.getRandomInt(0, CloudShapes.COUNT - 1);
+        setShape(index, random.getRandomDouble(MIN_SCALE, MAX_SCALE));
+        BezierOval shape = getShape();
+
+        double radiusX = shape.getRadiusX() * scale;
+        double radiusY = shape.getRadiusY() * scale;
+        double x;
+        if (onScreen) {
+            x = random.getRandomDouble(minX + radiusX, maxX - radiusX);
+        } else {
+            x = minX > 0 ? minX + radiusX : -radiusX - 10;
+        }
+        double y = random.getRandomDouble(minY + radiusY, maxY - radiusY);
+        respawn(x, y, world);
+
+        saturation = 0;
+        rainTimeElapsed = 0;
+        speedOffset = random.getRandomDouble(0.5, 1.5);
+        setSpeed(speedOffset);
+        setHeading(0);
+    }
+
+    private void setShape(int index, double scale) {
+        this.scale = scale;
+        // Only a different outline needs a collision shape of its own
+        if (index != shapeIndex) {
+            shapeIndex = index;
+            collisionShape = CloudShapes.newCollisionShape(index);
+        }
+        BezierOval shape = getShape();
+        setLocalBounds(shape.getMinX() * scale, shape.getMinY() * scale,
+                shape.getMaxX() * scale, shape.getMaxY() * scale);
+    }
+
+    @Override
+    void save(StateVector out) {
+        out.putInt(shapeIndex);
+        out.putDouble(scale);
+        out.putDouble(speedOffset);
+        out.putInt(saturation);
+        out.putDouble(rainTimeElapsed);
+        super.save(out);
+    }
+
+    @Override
+    void restore(StateVector in, WorldBounds world) {
+        int index = in.getInt();
+        setShape(index, in.getDouble());
+        speedOffset = in.getDouble();
+        saturation = in.getInt();
+        rainTimeElapsed = in.getDouble();
+        super.restore(in, world);
+    }
+
+    public BezierOval getShape() {
+        return CloudShapes.get(shapeIndex);
+    }
+
+    public int getShapeIndex() {
+        return shapeIndex;
+    }
+
+    @Override
+    public double getScale() {
+        return scale;
+    }
+
+    public boolean isRaining() {
+        return saturation >= 30;
+    }
+
+    public int getSaturation() {
+        return saturation;
+    }
+
+    private void rain() {
+        if (saturation <= 0) return;
+        saturation--;
+    }
+
+    public void saturate() {
+        if (saturation >= 100) return;
+        saturation++;
+    }
+
+    @Override
+    public void update(double frameTime) {
+        move(frameTime);
+
+        rainTimeElapsed += frameTime;
+        //every second, cloud losses 1% saturation
+        if (rainTimeElapsed >= SATURATION_LOSS_DELAY_IN_SECS) {
+            rainTimeElapsed = 0;
+            rain();
+        }
+    }
+
+    @Override
+    public void update(Object o) {
+        if (o instanceof WindModel wind) {
+            setSpeed(wind.getSpeed() + speedOffset);
+            setHeading(wind.getDirection());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package rainmaker.model;
+
+import rainmaker.geometry.CollisionShape;
+import rainmaker.services.BezierOval;
+import rainmaker.services.RandomGenerator;
+
+/**
+ * A fixed set of cloud outlines shared by every cloud in every world.
+ * Clouds pick one by index and scale it, so spawning one doesn't build any
+ * geometry.
+ * <p>
+ * The outlines are generated once, from their own fixed seed, the first
+ * time a cloud needs one. The library is never changed afterwards, so worlds
+ * on different threads can share it, and a world's seed still decides which
+ * clouds it gets.
+ */
+public final class CloudShapes {
+    public static final int COUNT = 64;
+    private static final long SEED = 0x5eed_c10dL;
+    private static final BezierOval[] shapes = new BezierOval[COUNT];
+    // Outlines in local coordinates, clouds copy them to get a placement
+    // of their own
+    private static final CollisionShape[] collisionShapes =
+            new CollisionShape[COUNT];
+
+    static {
+        RandomGenerator random = new RandomGenerator(SEED);
+        for (int i = 0; i < COUNT; i++) {
+            double radiusX = random.getRandomDouble(50, 60);
+            double radiusY = random.getRandomDouble(30, 40);
+            shapes[i] = new BezierOval.Builder(random, radiusX, radiusY)
+                    .setStartAngle(random.getRandomInt(0, 360))
+                    .setAngleIncrementMin(60)
+                    .setAngleIncrementMax(72)
+                    .setOverlapAngle(72)
+                    .setMinOffsetFromOval(10)
+                    .setMaxOffsetFromOval(20)
+                    .build();
+            collisionShapes[i] = CollisionShape.fromBezierOval(shapes[i]);
+        }
+    }
+
+    private CloudShapes() {
+    }
+
+    public static BezierOval get(int index) {
+        return shapes[index];
+    }
+
+    /**
+     * A collision shape of the outline for one cloud to place, sharing its
+     * polygons with every other cloud of the same outline
+     */
+    static CollisionShape newCollisionShape(int index) {
+        return collisionShapes[index].copy();
+    }
+}
@@ -0,0 +1,240 @@
+package rainmaker.model;
+
+import rainmaker.Updatable;
+import rainmaker.services.CoinSide;
+import rainmaker.services.ObjectPool;
+import rainmaker.services.RandomGenerator;
+import rainmaker.services.StateVector;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The clouds over the loaded chunks. A chunk gets its share of clouds when
+ * it loads, new ones drift in over the chunks along the left edge of the
+ * loaded area, and clouds that drift off it are removed. A denser world
+ * has that many times the clouds, and as many drift in at once.
+ */
+public class CloudsModel implements Updatable, Iterable<CloudModel> {
+    // Clouds per chunk
+    private static final int MAX_CLOUDS = 5;
+    private static final int MIN_CLOUDS = 2;
+    private static final int MAX_POOLED = 16;
+    private final ArrayList<CloudModel> clouds = new ArrayList<>();
+    private final SpatialGrid<CloudModel> grid;
+    // Dead clouds, respawned instead of creating new ones
+    private final ObjectPool<CloudModel> pool =
+            new ObjectPool<>(CloudModel::new, MAX_POOLED);
+    private final RandomGenerator random;
+    private final Chunks chunks;
+    private final WorldBounds world;
+    private final int density;
+    // Chunks loaded since the last tick, still to be filled with clouds
+    private final ArrayList<Chunk> unfilled = new ArrayList<>();
+    private final ArrayList<Chunk> edgeChunks = new ArrayList<>();
+    private int maxClouds;
+    private int minClouds;
+    private double elapsed = 0;
+    private Consumer<CloudModel> onCloudAdded;
+    private Consumer<CloudModel> onCloudRemoved;
+
+    public CloudsModel(RandomGenerator random, Chunks chunks) {
+        this.random = random;
+        this.chunks = chunks;
+        world = chunks.getBounds();
+        grid = new SpatialGrid<>(world);
+        density = world.getDensity();
+        updateLimits();
+    }
+
+    public void setOnCloudAdded(Consumer<CloudModel> action) {
+        this.onCloudAdded = action;
+    }
+
+    public void setOnCloudRemoved(Consumer<CloudModel> action) {
+        this.onCloudRemoved = action;
+    }
+
+    private void add(CloudModel cloud) {
+        clouds.add(cloud);
+        grid.add(cloud);
+        if (onCloudAdded != null) onCloudAdded.accept(cloud);
+    }
+
+    private void spawn(Chunk chunk, boolean onScreen) {
+        CloudModel cloud = pool.acquire();
+        cloud.respawnRandom(random, world, chunk, onScreen);
+        add(cloud);
+    }
+
+    /**
+     * Spawns a cloud to drift in over one of the chunks along the left edge
+     * of the loaded area
+     */
+    private void spawnAtEdge() {
+        edgeChunks.clear();
+        for (int i = 0; i < chunks.getLoadedCount(); i++) {
+            Chunk chunk = chunks.getLoaded(i);
+            if (!chunks.hasLoadedLeftNeighbour(chunk)) edgeChunks.add(chunk);
+        }
+        int index = random.getRandomInt(0, edgeChunks.size() - 1);
+        spawn(edgeChunks.get(index), false);
+    }
+
+    /**
+     * The chunk gets its share of clouds on the next tick
+     */
+    public void load(Chunk chunk) {
+        unfilled.add(chunk);
+        updateLimits();
+    }
+
+    /**
+     * Its clouds are removed on the next tick, once they're found to be over
+     * a chunk that isn't loaded
+     */
+    public void unload(Chunk chunk) {
+        unfilled.remove(chunk);
+        updateLimits();
+    }
+
+    private void updateLimits() {
+        double area = chunks.getLoadedArea();
+        maxClouds = density * Math.max(MAX_CLOUDS,
+                (int) Math.round(MAX_CLOUDS * area));
+        minClouds = density * Math.max(MIN_CLOUDS,
+                (int) Math.round(MIN_CLOUDS * area));
+    }
+
+    /**
+     * The cloud goes back to the pool once the listener has seen it, nothing
+     * may hold on to it afterwards
+     */
+    private void remove(CloudModel cloud) {
+        clouds.remove(cloud);
+        grid.remove(cloud);
+        if (onCloudRemoved != null) onCloudRemoved.accept(cloud);
+        pool.release(cloud);
+    }
+
+    public void clear() {
+        for (int i = 0; i < clouds.size(); i++) {
+            pool.release(clouds.get(i));
+        }
+        clouds.clear();
+        grid.clear();
+        unfilled.clear();
+        elapsed = 0;
+    }
+
+    /**
+     * Only saved between ticks, when every loaded chunk has been filled
+     */
+    void save(StateVector out) {
+        random.save(out);
+        out.putDouble(elapsed);
+        out.putInt(clouds.size());
+        for (int i = 0; i < clouds.size(); i++) {
+            clouds.get(i).save(out);
+        }
+    }
+
+    /**
+     * Replaces the clouds with the saved ones without telling anyone, like
+     * clear() does. The clouds there are take on the saved ones, which are
+     * mostly the same clouds a moment earlier and keep their outlines. The
+     * chunks have to be restored first.
+     */
+    void restore(StateVector in) {
+        random.restore(in);
+        elapsed = in.getDouble();
+        int count = in.getInt();
+        while (clouds.size() > count) {
+            pool.release(clouds.remove(clouds.size() - 1));
+        }
+        while (clouds.size() < count) {
+            clouds.add(pool.acquire());
+        }
+        grid.clear();
+        unfilled.clear();
+        for (int i = 0; i < count; i++) {
+            CloudModel cloud = clouds.get(i);
+            cloud.restore(in, world);
+            grid.add(cloud);
+        }
+        updateLimits();
+    }
+
+    public int size() {
+        return clouds.size();
+    }
+
+    public CloudModel get(int index) {
+        return clouds.get(index);
+    }
+
+    /**
+     * Clouds that may overlap the bounds of the given object
+     */
+    public void findNear(ObjectModel area, List<CloudModel> out) {
+        grid.query(area, out);
+    }
+
+    public boolean isRaining() {
+        for (int i = 0; i < clouds.size(); i++) {
+            if (clouds.get(i).isRaining()) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void update(double frameTime) {
+        elapsed += frameTime;
+
+        for (int i = 0; i < unfilled.size(); i++) {
+            Chunk chunk = unfilled.get(i);
+            int count = (int) Math.round(density * MAX_CLOUDS *
+                    chunk.getAreaFraction());
+            for (int j = 0; j < count; j++) {
+                spawn(chunk, true);
+            }
+        }
+        unfilled.clear();
+
+        // Not using iterator to avoid concurrent modification exception
+        for (int i = 0; i < clouds.size(); i++) {
+            CloudModel cloud = clouds.get(i);
+            cloud.update(frameTime);
+
+            if (!cloud.isDead() &&
+                    chunks.isLoaded(cloud.getCenterX(), cloud.getCenterY())) {
+                grid.update(cloud);
+                continue;
+            }
+
+            remove(cloud);
+        }
+
+        if (clouds.size() >= maxClouds) return;
+
+        if (clouds.size() <= minClouds) {
+            spawnAtEdge();
+        }
+
+        if (elapsed < 5) return;
+        elapsed = 0;
+
+        if (random.flipCoin() == CoinSide.HEADS) {
+            for (int i = 0; i < density; i++) {
+                spawnAtEdge();
+            }
+        }
+    }
+
+    @Override
+    public Iterator<CloudModel> iterator() {
+        return clouds.iterator();
+    }
+}
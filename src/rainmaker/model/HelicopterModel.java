@@ -0,0 +1,490 @@
+package rainmaker.model;
+
+import rainmaker.Updatable;
+import rainmaker.geometry.CollisionShape;
+import rainmaker.services.StateVector;
+import rainmaker.services.Vector;
+
+public class HelicopterModel extends ObjectModel implements Updatable {
+    public static final double MAX_SPEED = 10;
+    public static final double MIN_SPEED = -2;
+    public static final double ACCELERATION = 0.1;
+    public static final double ROTATION_CHANGE = 1;
+    // copter_body.png scaled down to 18%, placed relative to the blade's hub
+    public static final double BODY_WIDTH = 170 * 0.18;
+    public static final double BODY_HEIGHT = 583 * 0.18;
+    public static final double BODY_OFFSET_X = -15;
+    public static final double BODY_OFFSET_Y = -65;
+    public static final double BLADE_RADIUS = 40;
+    private static final double HOOVER_FUEL_CONSUMPTION = 25;
+    private final HeloBladeModel heloBlade = new HeloBladeModel();
+    private HelicopterState currState;
+    private double heading = 0;
+    private double speed = 0;
+    // Heading as a unit vector, and the bounds for it, are only recomputed
+    // when the heading changes
+    private double directionX;
+    private double directionY;
+    private double directionHeading = Double.NaN;
+    private double fuel;
+    private Runnable onCrashAction;
+    private HelipadModel helipad;
+    private Runnable onLandedAction;
+    private Runnable onFlyingAction;
+    private Runnable onStateChangedAction;
+    private Runnable onSeedAction;
+
+    public enum Status {
+        OFF, STARTING, READY, STOPPING
+    }
+
+    public HelicopterModel(Vector initialPosition, int initialFuel) {
+        super(initialPosition.getX(), initialPosition.getY());
+        fuel = initialFuel;
+
+        currState = new OffState();
+        collisionShape = CollisionShape.rectangle(BODY_OFFSET_X,
+                BODY_OFFSET_Y, BODY_WIDTH, BODY_HEIGHT);
+        updateDirection();
+    }
+
+    public void toggleIgnition() {
+        currState.toggleIgnition();
+    }
+
+    public void speedUp() {
+        currState.speedUp();
+    }
+
+    public void speedDown() {
+        currState.speedDown();
+    }
+
+    public void turnLeft() {
+        currState.turnLeft();
+    }
+
+    public void turnRight() {
+        currState.turnRight();
+    }
+
+    private double getCartesianAngle() {
+        return (450 - heading) % 360;
+    }
+
+    /**
+     * Degrees the helicopter is rotated by around its blade's hub, zero when
+     * it points up
+     */
+    @Override
+    public double getRotation() {
+        return getCartesianAngle() - 90;
+    }
+
+    private void calculateNewPosition(double frameTime) {
+        double distance = speed * frameTime * World.UNIVERSAL_SPEED_MULTIPLIER;
+        x += directionX * distance;
+        y += directionY * distance;
+    }
+
+    private void updateDirection() {
+        if (heading == directionHeading) return;
+        directionHeading = heading;
+
+        double angle = Math.toRadians(getCartesianAngle());
+        directionX = Math.cos(angle);
+        directionY = Math.sin(angle);
+        updateBounds();
+    }
+
+    /**
+     * Bounds of the rotated body, combined with the blade's circle which
+     * doesn't change with rotation
+     */
+    private void updateBounds() {
+        // cos(angle - 90) = sin(angle) and sin(angle - 90) = -cos(angle)
+        double cos = directionY;
+        double sin = -directionX;
+
+        double minX = -BLADE_RADIUS;
+        double minY = -BLADE_RADIUS;
+        double maxX = BLADE_RADIUS;
+        double maxY = BLADE_RADIUS;
+        for (int corner = 0; corner < 4; corner++) {
+            double cornerX = BODY_OFFSET_X + (corner % 2) * BODY_WIDTH;
+            double cornerY = BODY_OFFSET_Y + (corner / 2) * BODY_HEIGHT;
+            double rotatedX = cornerX * cos - cornerY * sin;
+            double rotatedY = cornerX * sin + cornerY * cos;
+            minX = Math.min(minX, rotatedX);
+            minY = Math.min(minY, rotatedY);
+            maxX = Math.max(maxX, rotatedX);
+            maxY = Math.max(maxY, rotatedY);
+        }
+        setLocalBounds(minX, minY, maxX, maxY);
+    }
+
+    @Override
+    public void update(double frameTime) {
+        updateDirection();
+        calculateNewPosition(frameTime);
+        heloBlade.update(frameTime);
+
+        currState.nextFrame(frameTime);
+    }
+
+    void save(StateVector out) {
+        out.putDouble(x);
+        out.putDouble(y);
+        out.putDouble(heading);
+        out.putDouble(speed);
+        out.putDouble(fuel);
+        out.putInt(currState.getStatus().ordinal());
+        heloBlade.save(out);
+    }
+
+    /**
+     * Puts a new helicopter where the saved one was, in the same state. The
+     * state is entered quietly, without running any of the actions.
+     */
+    void restore(StateVector in) {
+        x = in.getDouble();
+        y = in.getDouble();
+        heading = in.getDouble();
+        speed = in.getDouble();
+        fuel = in.getDouble();
+        updateDirection();
+        currState = switch (Status.values()[in.getInt()]) {
+            case OFF -> new OffState();
+            case STARTING -> new StartingState();
+            case READY -> new ReadyState();
+            case STOPPING -> new StoppingState();
+        };
+        // Entering a state starts or stops the blade, it has to be restored
+        // after
+        heloBlade.restore(in);
+    }
+
+    public void setOnFlyingAction(Runnable onFlyingAction) {
+        this.onFlyingAction = onFlyingAction;
+    }
+
+    public void setOnLandedAction(Runnable action) {
+        this.onLandedAction = action;
+    }
+
+    /**
+     * Runs after every change of state, see getStatus()
+     */
+    public void setOnStateChanged(Runnable action) {
+        this.onStateChangedAction = action;
+    }
+
+    /**
+     * Runs every time a cloud is actually seeded
+     */
+    public void setOnSeedAction(Runnable action) {
+        this.onSeedAction = action;
+    }
+
+    public void seedCloud(CloudModel cloud) {
+        currState.seedCloud(cloud);
+    }
+
+    public void setOnCrash(Runnable action) {
+        this.onCrashAction = action;
+    }
+
+    public double getFuel() {
+        return fuel;
+    }
+
+    private void crash() {
+        if (onCrashAction != null) {
+            onCrashAction.run();
+        }
+    }
+
+    private void changeState(HelicopterState state) {
+        currState = state;
+        if (onStateChangedAction != null) onStateChangedAction.run();
+    }
+
+    public Status getStatus() {
+        return currState.getStatus();
+    }
+
+    /**
+     * Name of the current state, as shown to the player
+     */
+    public String getStateName() {
+        return currState.toString();
+    }
+
+    public HeloBladeModel getBlade() {
+        return heloBlade;
+    }
+
+    public void setLandingLocation(HelipadModel helipad) {
+        this.helipad = helipad;
+    }
+
+    private boolean hooveringOverHelipad() {
+        return helipad != null && helipad.boundsContain(this);
+    }
+
+    public double getSpeed() {
+        return speed;
+    }
+
+    public void refuel(double siphonedFuel) {
+        fuel += siphonedFuel;
+    }
+
+    public double getHeading() {
+        return getCartesianAngle();
+    }
+
+    abstract class HelicopterState {
+
+        abstract Status getStatus();
+
+        abstract void speedUp();
+
+        abstract void speedDown();
+
+        abstract void turnLeft();
+
+        abstract void turnRight();
+
+        abstract void toggleIgnition();
+
+        abstract void seedCloud(CloudModel cloud);
+
+        abstract void nextFrame(double frameTime);
+    }
+
+    class OffState extends HelicopterState {
+
+        @Override
+        Status getStatus() {
+            return Status.OFF;
+        }
+
+        @Override
+        void speedUp() {
+            // do nothing
+        }
+
+        @Override
+        void speedDown() {
+            // do nothing
+        }
+
+        @Override
+        void toggleIgnition() {
+            changeState(new StartingState());
+        }
+
+        @Override
+        void turnLeft() {
+            // do nothing
+        }
+
+        @Override
+        void turnRight() {
+            // do nothing
+        }
+
+        @Override
+        void seedCloud(CloudModel cloud) { /* Do nothing - helicopter is off */ }
+
+        @Override
+        void nextFrame(double frameTime) {
+            // do nothing
+        }
+
+        public String toString() {
+            return "Off";
+        }
+
+    }
+
+    class StartingState extends HelicopterState {
+        public StartingState() {
+            heloBlade.setOnMaxRotationalSpeed(() -> {
+                changeState(new ReadyState());
+                if (onFlyingAction != null) onFlyingAction.run();
+            });
+            heloBlade.startSpinning();
+        }
+
+        @Override
+        Status getStatus() {
+            return Status.STARTING;
+        }
+
+        @Override
+        void speedUp() {
+            // do nothing
+        }
+
+        @Override
+        void speedDown() {
+            // do nothing
+        }
+
+        @Override
+        void toggleIgnition() {
+            changeState(new StoppingState());
+        }
+
+        @Override
+        void turnLeft() {
+            // do nothing
+        }
+
+        @Override
+        void turnRight() {
+            // do nothing
+        }
+
+        @Override
+        void seedCloud(CloudModel cloud) { /* Do nothing - helicopter is starting */}
+
+        @Override
+        void nextFrame(double frameTime) {
+            fuel = fuel - (HOOVER_FUEL_CONSUMPTION * frameTime);
+            if (fuel <= 0) {
+                fuel = 0;
+                changeState(new StoppingState());
+                crash();
+            }
+        }
+
+        public String toString() {
+            return "Starting";
+        }
+    }
+
+    class StoppingState extends HelicopterState {
+        public StoppingState() {
+            heloBlade.setOnStoppedRotating(() -> {
+                changeState(new OffState());
+                if (onLandedAction != null) onLandedAction.run();
+            });
+            heloBlade.stopSpinning();
+        }
+
+        @Override
+        Status getStatus() {
+            return Status.STOPPING;
+        }
+
+        @Override
+        void speedUp() {
+            // do nothing
+        }
+
+        @Override
+        void speedDown() {
+            // do nothing
+        }
+
+        @Override
+        void toggleIgnition() {
+            changeState(new StartingState());
+        }
+
+        @Override
+        void turnLeft() {
+            // do nothing
+        }
+
+
+        @Override
+        void turnRight() {
+            // do nothing
+        }
+
+        @Override
+        void seedCloud(CloudModel cloud) {
+            // Do nothing
+        }
+
+        @Override
+        void nextFrame(double frameTime) {
+            // do nothing
+        }
+
+        public String toString() {
+            return "Stopping";
+        }
+    }
+
+    class ReadyState extends HelicopterState {
+
+        @Override
+        Status getStatus() {
+            return Status.READY;
+        }
+
+        @Override
+        void speedUp() {
+            if (speed >= MAX_SPEED) return;
+            speed += ACCELERATION;
+            speed = Vector.round(speed, 1);
+        }
+
+        @Override
+        void speedDown() {
+            if (speed <= MIN_SPEED) return;
+            speed -= ACCELERATION;
+            speed = Vector.round(speed, 1);
+        }
+
+        @Override
+        void toggleIgnition() {
+            if (Math.abs(speed) >= 0.1) return;
+            if (!hooveringOverHelipad()) return;
+
+            changeState(new StoppingState());
+        }
+
+        @Override
+        void turnLeft() {
+            heading -= ROTATION_CHANGE;
+        }
+
+        @Override
+        void turnRight() {
+            heading += ROTATION_CHANGE;
+        }
+
+        @Override
+        void seedCloud(CloudModel cloud) {
+            cloud.saturate();
+            if (onSeedAction != null) onSeedAction.run();
+        }
+
+        @Override
+        void nextFrame(double frameTime) {
+            double speedConsumption = Math.abs(speed) * HOOVER_FUEL_CONSUMPTION;
+            double hoverConsumption = HOOVER_FUEL_CONSUMPTION;
+
+            speedConsumption *= frameTime;
+            hoverConsumption *= frameTime;
+
+            fuel = (fuel - speedConsumption - hoverConsumption);
+
+            if (fuel <= 0) {
+                fuel = 0;
+                crash();
+                changeState(new StoppingState());
+            }
+        }
+
+        public String toString() {
+            return "Flying";
+        }
+    }
+}
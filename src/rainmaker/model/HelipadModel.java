@@ -0,0 +1,20 @@
+package rainmaker.model;
+
+public class HelipadModel extends ObjectModel {
+    public static final double BORDER_OFFSET = 10;
+    public static final double STROKE_WIDTH = 2;
+    private final double radius;
+
+    public HelipadModel(double radius, double x, double y) {
+        super(x, y);
+        this.radius = radius;
+
+        // Half of each of the pad's and the border's strokes sit outside
+        double halfSize = radius + BORDER_OFFSET + STROKE_WIDTH;
+        setLocalBounds(-halfSize, -halfSize, halfSize, halfSize);
+    }
+
+    public double getRadius() {
+        return radius;
+    }
+}
@@ -0,0 +1,101 @@
+package rainmaker.model;
+
+import rainmaker.Updatable;
+import rainmaker.services.StateVector;
+
+/**
+ * Spin of the helicopter's blades. Uses a simple enum state.
+ */
+public class HeloBladeModel implements Updatable {
+    public static final double MAX_ROTATIONAL_SPEED = 1000;
+    private static final double ROTATION_ANGLE_INCREMENT = 180;
+    private BladeState currState;
+    private double rotationalSpeed;
+    private double rotation = 0;
+    private Runnable onMaxRotationalSpeed;
+    private Runnable onStopRotating;
+
+    enum BladeState {
+        STOPPED, INCREASING_SPEED, DECREASING_SPEED, AT_MAX_SPEED
+    }
+
+    public HeloBladeModel() {
+        currState = BladeState.STOPPED;
+    }
+
+    @Override
+    public void update(double frameTime) {
+        rotation = (rotation - rotationalSpeed * frameTime) % 360;
+
+        if (currState == BladeState.INCREASING_SPEED) {
+            rotationalSpeed += ROTATION_ANGLE_INCREMENT * frameTime;
+            if (rotationalSpeed >= MAX_ROTATIONAL_SPEED) {
+                rotationalSpeed = MAX_ROTATIONAL_SPEED;
+
+                if (onMaxRotationalSpeed != null)
+                    onMaxRotationalSpeed.run();
+
+                currState = BladeState.AT_MAX_SPEED;
+            }
+        } else if (currState == BladeState.DECREASING_SPEED) {
+            rotationalSpeed -= ROTATION_ANGLE_INCREMENT * frameTime;
+            if (rotationalSpeed <= 0) {
+                rotationalSpeed = 0;
+                if (onStopRotating != null)
+                    onStopRotating.run();
+                currState = BladeState.STOPPED;
+            }
+        }
+    }
+
+    void save(StateVector out) {
+        out.putInt(currState.ordinal());
+        out.putDouble(rotationalSpeed);
+        out.putDouble(rotation);
+    }
+
+    /**
+     * Picks up where the saved blade was, without running any of the
+     * actions
+     */
+    void restore(StateVector in) {
+        currState = BladeState.values()[in.getInt()];
+        rotationalSpeed = in.getDouble();
+        rotation = in.getDouble();
+    }
+
+    public double getCurrentSpeed() {
+        return rotationalSpeed;
+    }
+
+    /**
+     * Degrees the blades have turned through, in (-360, 0]
+     */
+    public double getRotation() {
+        return rotation;
+    }
+
+    public void startSpinning() {
+        if (currState == BladeState.AT_MAX_SPEED) return;
+        currState = BladeState.INCREASING_SPEED;
+    }
+
+    /**
+     * Only runs when the blade comes to a stop from spinning
+     */
+    public void setOnStoppedRotating(Runnable action) {
+        this.onStopRotating = action;
+    }
+
+    /**
+     * Only runs when the blade reaches its maximum rotational speed
+     */
+    public void setOnMaxRotationalSpeed(Runnable action) {
+        this.onMaxRotationalSpeed = action;
+    }
+
+    public void stopSpinning() {
+        if (currState == BladeState.STOPPED) return;
+        currState = BladeState.DECREASING_SPEED;
+    }
+}
@@ -0,0 +1,20 @@
+package rainmaker.model;
+
+/**
+ * Everything the player can do to a World. Input is recorded by its
+ * ordinal, so only ever append new values at the end.
+ */
+public enum Input {
+    SPEED_UP,
+    SPEED_DOWN,
+    TURN_LEFT,
+    TURN_RIGHT,
+    SEED_CLOUDS,
+    TOGGLE_IGNITION,
+    // Starts the game over
+    RESET,
+    // Lets the loop tick again after the game ended
+    START,
+    // Goes back a little in the world's history, if it keeps one
+    REWIND
+}
@@ -0,0 +1,127 @@
+package rainmaker.model;
+
+import rainmaker.geometry.CollisionShape;
+
+/**
+ * Pure state of anything that occupies space in the world. Bounds are kept as
+ * an axis aligned box relative to the object's position, so nothing has to
+ * be read back from the scene graph.
+ */
+public abstract class ObjectModel {
+    protected double x;
+    protected double y;
+
+    // Axis aligned bounds relative to (x, y)
+    protected double localMinX;
+    protected double localMinY;
+    protected double localMaxX;
+    protected double localMaxY;
+
+    // Exact outline for collisions, without one only bounds are compared
+    protected CollisionShape collisionShape;
+
+    protected ObjectModel(double x, double y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    protected void setLocalBounds(double minX, double minY, double maxX,
+                                  double maxY) {
+        localMinX = minX;
+        localMinY = minY;
+        localMaxX = maxX;
+        localMaxY = maxY;
+    }
+
+    public double getMinX() {
+        return x + localMinX;
+    }
+
+    public double getMinY() {
+        return y + localMinY;
+    }
+
+    public double getMaxX() {
+        return x + localMaxX;
+    }
+
+    public double getMaxY() {
+        return y + localMaxY;
+    }
+
+    public double getWidth() {
+        return localMaxX - localMinX;
+    }
+
+    public double getHeight() {
+        return localMaxY - localMinY;
+    }
+
+    public double getCenterX() {
+        return x + (localMinX + localMaxX) / 2;
+    }
+
+    public double getCenterY() {
+        return y + (localMinY + localMaxY) / 2;
+    }
+
+    public boolean boundsIntersect(ObjectModel other) {
+        return getMinX() <= other.getMaxX() && getMaxX() >= other.getMinX() &&
+                getMinY() <= other.getMaxY() && getMaxY() >= other.getMinY();
+    }
+
+    public boolean boundsContain(ObjectModel other) {
+        return getMinX() <= other.getMinX() && getMaxX() >= other.getMaxX() &&
+                getMinY() <= other.getMinY() && getMaxY() >= other.getMaxY();
+    }
+
+    /**
+     * Degrees the object is rotated by around its position
+     */
+    public double getRotation() {
+        return 0;
+    }
+
+    public double getScale() {
+        return 1;
+    }
+
+    /**
+     * Collision test between the two objects. Bounds are compared first,
+     * the outlines only if both objects have one and the bounds overlap.
+     */
+    public boolean intersects(ObjectModel other) {
+        if (!boundsIntersect(other)) return false;
+        if (collisionShape == null || other.collisionShape == null) {
+            return true;
+        }
+        return getCollisionShape().intersects(other.getCollisionShape());
+    }
+
+    /**
+     * The collision shape, moved to where the object currently is
+     */
+    public CollisionShape getCollisionShape() {
+        if (collisionShape != null) {
+            collisionShape.setTransform(x, y, getRotation(), getScale());
+        }
+        return collisionShape;
+    }
+
+    /**
+     * Distance between the centers of the two objects' bounds
+     */
+    public double distanceTo(ObjectModel other) {
+        double dx = other.getCenterX() - getCenterX();
+        double dy = other.getCenterY() - getCenterY();
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+}
@@ -0,0 +1,102 @@
+package rainmaker.model;
+
+import rainmaker.GameLoop;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * A batch of independent worlds stepped concurrently on a ForkJoinPool. Each
+ * world is only ever touched by one thread at a time, and worlds share no
+ * mutable state, so no locking is needed.
+ * <p>
+ * Worlds whose game ends (crash or win) are reset and keep going, so every
+ * world always runs the full number of ticks asked for.
+ */
+public class ParallelWorlds implements AutoCloseable {
+    private final List<World> worlds = new ArrayList<>();
+    private final ForkJoinPool pool;
+
+    /**
+     * Each world's seed is drawn from the given seed, so the whole batch can
+     * be repeated
+     */
+    public ParallelWorlds(int worldCount, int parallelism, long seed) {
+        SplittableRandom seeds = new SplittableRandom(seed);
+        for (int i = 0; i < worldCount; i++) {
+            World world = new World(seeds.nextLong());
+            world.getHelicopter().toggleIgnition();
+            worlds.add(world);
+        }
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    public ParallelWorlds(int worldCount, int parallelism) {
+        this(worldCount, parallelism, new SplittableRandom().nextLong());
+    }
+
+    public ParallelWorlds(int worldCount) {
+        this(worldCount, Runtime.getRuntime().availableProcessors());
+    }
+
+    public List<World> getWorlds() {
+        return Collections.unmodifiableList(worlds);
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Advances every world by the given number of ticks and returns once all
+     * of them are done
+     */
+    public void step(long ticks) {
+        List<Callable<Void>> tasks = new ArrayList<>(worlds.size());
+        for (World world : worlds) {
+            tasks.add(() -> {
+                run(world, ticks);
+                return null;
+            });
+        }
+
+        for (Future<Void> result : pool.invokeAll(tasks)) {
+            try {
+                result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while stepping", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("A world failed to tick",
+                        e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Ticks the world on the calling thread, starting a new game whenever the
+     * current one ends
+     */
+    public static void run(World world, long ticks) {
+        GameLoop loop = world.getGameLoop();
+        for (long i = 0; i < ticks; i++) {
+            if (!loop.isRunning()) {
+                world.reset();
+                world.getHelicopter().toggleIgnition();
+                loop.start();
+            }
+            loop.tick();
+        }
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+}
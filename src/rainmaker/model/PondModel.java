@@ -0,0 +1,134 @@
+package rainmaker.model;
+
+import rainmaker.Updatable;
+import rainmaker.geometry.CollisionShape;
+import rainmaker.services.BezierOval;
+import rainmaker.services.RandomGenerator;
+import rainmaker.services.StateVector;
+
+public class PondModel extends ObjectModel implements Updatable {
+    private final BezierOval shape;
+    private double pondArea;
+    private double waterLevel = 0;
+
+    public PondModel(double x, double y, int initialWater,
+                     double initialArea, RandomGenerator random) {
+        super(x, y);
+        pondArea = initialArea;
+
+        shape = new BezierOval.Builder(random, getRadius(), getRadius())
+                .setStartAngle(0)
+                .setAngleIncrementMin(72)
+                .setAngleIncrementMax(72)
+                .setOverlapAngle(0)
+                .setMinOffsetFromOval(10)
+                .setMaxOffsetFromOval(20)
+                .setRandomizeControlAngle(true)
+                .build();
+
+        this.waterLevel = initialWater;
+        collisionShape = CollisionShape.fromBezierOval(shape);
+        updateBounds();
+    }
+
+    public static PondModel generatePond(RandomGenerator random) {
+        return generatePond(random, WorldBounds.DEFAULT);
+    }
+
+    /**
+     * A pond of random size anywhere in the given world
+     */
+    public static PondModel generatePond(RandomGenerator random,
+                                         WorldBounds world) {
+        return generatePond(random, 0, 0, world.getWidth(),
+                world.getHeight());
+    }
+
+    /**
+     * A pond of random size that fits inside the given area
+     */
+    public static PondModel generatePond(RandomGenerator random,
+                                         double minX, double minY,
+                                         double maxX, double maxY) {
+        int waterLevel = random.getRandomInt(10, 30);
+        int initialArea = waterLevel * 100;
+        double radius = getRadius(initialArea);
+        double x = random.getRandomDouble(minX + radius, maxX - radius);
+        double y = random.getRandomDouble(minY + radius, maxY - radius);
+        return new PondModel(x, y, waterLevel, initialArea, random);
+    }
+
+    /**
+     * A pond of random size centered on the point
+     */
+    public static PondModel generatePond(RandomGenerator random, double x,
+                                         double y) {
+        int waterLevel = random.getRandomInt(10, 30);
+        return new PondModel(x, y, waterLevel, waterLevel * 100, random);
+    }
+
+    public static double getRadius(double area) {
+        return Math.sqrt(area / Math.PI);
+    }
+
+    public double getRadius() {
+        return Math.sqrt(pondArea / Math.PI);
+    }
+
+    public BezierOval getShape() {
+        return shape;
+    }
+
+    /**
+     * The pond's shape is generated once and scaled as the pond grows
+     */
+    @Override
+    public double getScale() {
+        return getRadius() / shape.getRadiusX();
+    }
+
+    public void addWater(double water) {
+        pondArea += 100 * water;
+        waterLevel += water;
+    }
+
+    /**
+     * Sets the water to a level the pond had before, growing or shrinking
+     * it to match
+     */
+    public void setWaterLevel(double level) {
+        pondArea += 100 * (level - waterLevel);
+        waterLevel = level;
+        updateBounds();
+    }
+
+    /**
+     * The area is kept apart from the water level, both add up the water
+     * poured in and round differently
+     */
+    void save(StateVector out) {
+        out.putDouble(pondArea);
+        out.putDouble(waterLevel);
+    }
+
+    void restore(StateVector in) {
+        pondArea = in.getDouble();
+        waterLevel = in.getDouble();
+        updateBounds();
+    }
+
+    public double getCurrentWaterLevel() {
+        return waterLevel;
+    }
+
+    private void updateBounds() {
+        double scale = getScale();
+        setLocalBounds(shape.getMinX() * scale, shape.getMinY() * scale,
+                shape.getMaxX() * scale, shape.getMaxY() * scale);
+    }
+
+    @Override
+    public void update(double frameTime) {
+        updateBounds();
+    }
+}
@@ -0,0 +1,285 @@
+package rainmaker.model;
+
+import rainmaker.Updatable;
+import rainmaker.geometry.PoissonDisk;
+import rainmaker.services.RandomGenerator;
+import rainmaker.services.StateVector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * The ponds of the loaded chunks. A chunk's ponds are generated from the
+ * chunk's seed when it loads, and when it unloads only their water levels
+ * are kept, so they come back the same way they were left.
+ * <p>
+ * A chunk's candidate spots are packed by Poisson disk sampling, at least
+ * MIN_POND_DISTANCE apart and off the obstacles, and its ponds go on a few
+ * of them picked at random. Ponds are much smaller than that distance, so
+ * they never overlap either. Placing them always finishes however crowded
+ * the chunk is.
+ * <p>
+ * Ponds keep half of MIN_POND_DISTANCE away from their chunk's edges. Ponds
+ * of neighbouring chunks are then always far enough apart, and a chunk's
+ * ponds can be placed without knowing which of its neighbours are loaded.
+ * <p>
+ * A denser world has that many times the ponds per chunk, and the spots
+ * are packed closer by the square root of its density so there are enough
+ * of them. Ponds of a very dense world can overlap once they fill up.
+ */
+public class PondsModel implements Updatable, Iterable<PondModel> {
+    private static final int PONDS_PER_CHUNK = 3;
+    private static final double MIN_POND_DISTANCE = 200;
+    private static final double CHUNK_MARGIN = MIN_POND_DISTANCE / 2;
+    // Stream of a chunk's random numbers its ponds are generated from
+    private static final int POND_STREAM = 0;
+    private final ArrayList<PondModel> ponds = new ArrayList<>();
+    private final SpatialGrid<PondModel> grid;
+    private final List<? extends ObjectModel> obstacles;
+    private final int pondsPerChunk;
+    private final double pondDistance;
+    // The ponds of each loaded chunk, by chunk key
+    private final HashMap<Long, PondModel[]> loaded = new HashMap<>();
+    // Water levels of the ponds of chunks that have been unloaded
+    private final HashMap<Long, double[]> saved = new HashMap<>();
+    private double savedWater = 0;
+    private int savedCount = 0;
+    private double maxRadius = 0;
+    private Consumer<PondModel> onPondAdded;
+    private Consumer<PondModel> onPondRemoved;
+
+    public PondsModel(List<? extends ObjectModel> obstacles) {
+        this(obstacles, WorldBounds.DEFAULT);
+    }
+
+    public PondsModel(List<? extends ObjectModel> obstacles,
+                      WorldBounds world) {
+        this.obstacles = obstacles;
+        grid = new SpatialGrid<>(world);
+        pondsPerChunk = PONDS_PER_CHUNK * world.getDensity();
+        pondDistance = MIN_POND_DISTANCE / Math.sqrt(world.getDensity());
+    }
+
+    public void setOnPondAdded(Consumer<PondModel> action) {
+        this.onPondAdded = action;
+    }
+
+    public void setOnPondRemoved(Consumer<PondModel> action) {
+        this.onPondRemoved = action;
+    }
+
+    /**
+     * Generates the chunk's ponds, with the water they had if the chunk was
+     * loaded before
+     */
+    public void load(Chunk chunk) {
+        PondModel[] chunkPonds = generate(chunk);
+        double[] levels = saved.remove(chunk.getKey());
+        if (levels != null) {
+            for (int i = 0; i < levels.length; i++) {
+                savedWater -= levels[i];
+                chunkPonds[i].setWaterLevel(levels[i]);
+            }
+            savedCount -= levels.length;
+        }
+
+        loaded.put(chunk.getKey(), chunkPonds);
+        for (PondModel pond : chunkPonds) {
+            ponds.add(pond);
+            grid.add(pond);
+            maxRadius = Math.max(maxRadius, pond.getRadius());
+            if (onPondAdded != null) onPondAdded.accept(pond);
+        }
+    }
+
+    /**
+     * Loads exactly the chunks the given ones have loaded, in their order,
+     * without telling anyone. The ponds of chunks that were loaded already
+     * are kept as they are instead of being generated again, restore()
+     * gives all of them their water.
+     */
+    void reload(Chunks chunks) {
+        HashMap<Long, PondModel[]> previous = new HashMap<>(loaded);
+        loaded.clear();
+        ponds.clear();
+        grid.clear();
+        for (int i = 0; i < chunks.getLoadedCount(); i++) {
+            Chunk chunk = chunks.getLoaded(i);
+            PondModel[] chunkPonds = previous.get(chunk.getKey());
+            if (chunkPonds == null) chunkPonds = generate(chunk);
+            loaded.put(chunk.getKey(), chunkPonds);
+            for (PondModel pond : chunkPonds) {
+                ponds.add(pond);
+                grid.add(pond);
+            }
+        }
+    }
+
+    /**
+     * The chunk's ponds as they are first generated
+     */
+    private PondModel[] generate(Chunk chunk) {
+        RandomGenerator random = chunk.random(POND_STREAM);
+        ArrayList<PondModel> generated = new ArrayList<>();
+        PoissonDisk.sample(random,
+                chunk.getMinX() + CHUNK_MARGIN, chunk.getMinY() + CHUNK_MARGIN,
+                chunk.getMaxX() - CHUNK_MARGIN, chunk.getMaxY() - CHUNK_MARGIN,
+                pondDistance, Integer.MAX_VALUE, (x, y) -> {
+                    PondModel pond = PondModel.generatePond(random, x, y);
+                    if (overlapsObstacle(pond)) return false;
+                    generated.add(pond);
+                    return true;
+                });
+
+        // Keep a few spots picked at random, spread over the whole chunk
+        int total = Math.min(generated.size(), (int) Math.round(
+                pondsPerChunk * chunk.getAreaFraction()));
+        for (int i = 0; i < total; i++) {
+            Collections.swap(generated, i,
+                    random.getRandomInt(i, generated.size() - 1));
+        }
+        generated.subList(total, generated.size()).clear();
+        return generated.toArray(new PondModel[0]);
+    }
+
+    /**
+     * Drops the chunk's ponds, keeping only their water levels
+     */
+    public void unload(Chunk chunk) {
+        PondModel[] chunkPonds = loaded.remove(chunk.getKey());
+        if (chunkPonds == null) return;
+
+        double[] levels = new double[chunkPonds.length];
+        for (int i = 0; i < chunkPonds.length; i++) {
+            PondModel pond = chunkPonds[i];
+            levels[i] = pond.getCurrentWaterLevel();
+            savedWater += levels[i];
+            ponds.remove(pond);
+            grid.remove(pond);
+            if (onPondRemoved != null) onPondRemoved.accept(pond);
+        }
+        saved.put(chunk.getKey(), levels);
+        savedCount += levels.length;
+
+        maxRadius = 0;
+        for (int i = 0; i < ponds.size(); i++) {
+            maxRadius = Math.max(maxRadius, ponds.get(i).getRadius());
+        }
+    }
+
+    /**
+     * Writes the water of every pond, loaded or not. What the ponds look
+     * like and where they are comes from their chunks.
+     */
+    void save(StateVector out) {
+        out.putDouble(savedWater);
+        out.putInt(savedCount);
+        out.putDouble(maxRadius);
+        out.putInt(saved.size());
+        for (Map.Entry<Long, double[]> entry : saved.entrySet()) {
+            double[] levels = entry.getValue();
+            out.putLong(entry.getKey());
+            out.putInt(levels.length);
+            for (double level : levels) {
+                out.putDouble(level);
+            }
+        }
+        out.putInt(ponds.size());
+        for (int i = 0; i < ponds.size(); i++) {
+            ponds.get(i).save(out);
+        }
+    }
+
+    /**
+     * Gives the ponds their saved water. The chunks have to be reloaded
+     * first, in the order they were when saved.
+     */
+    void restore(StateVector in) {
+        saved.clear();
+        savedWater = in.getDouble();
+        savedCount = in.getInt();
+        maxRadius = in.getDouble();
+        int chunks = in.getInt();
+        for (int i = 0; i < chunks; i++) {
+            long key = in.getLong();
+            double[] levels = new double[in.getInt()];
+            for (int j = 0; j < levels.length; j++) {
+                levels[j] = in.getDouble();
+            }
+            saved.put(key, levels);
+        }
+        int count = in.getInt();
+        if (count != ponds.size()) {
+            throw new IllegalStateException("Saved " + count +
+                    " ponds, loaded " + ponds.size());
+        }
+        for (int i = 0; i < count; i++) {
+            PondModel pond = ponds.get(i);
+            pond.restore(in);
+            grid.update(pond);
+        }
+    }
+
+    private boolean overlapsObstacle(PondModel pond) {
+        for (ObjectModel obstacle : obstacles) {
+            if (pond.boundsIntersect(obstacle)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return ponds.size();
+    }
+
+    public PondModel get(int index) {
+        return ponds.get(index);
+    }
+
+    /**
+     * Ponds whose bounds may come within the radius of the point
+     */
+    public void findNear(double x, double y, double radius,
+                         List<PondModel> out) {
+        grid.queryRadius(x, y, radius, out);
+    }
+
+    /**
+     * Radius of the largest loaded pond
+     */
+    public double getMaxRadius() {
+        return maxRadius;
+    }
+
+    @Override
+    public void update(double frameTime) {
+        for (int i = 0; i < ponds.size(); i++) {
+            PondModel pond = ponds.get(i);
+            pond.update(frameTime);
+            grid.update(pond);
+            maxRadius = Math.max(maxRadius, pond.getRadius());
+        }
+    }
+
+    /**
+     * Average over every pond generated so far, unloaded ones included
+     */
+    public double getAvgWaterLevel() {
+        double total = savedWater;
+        for (int i = 0; i < ponds.size(); i++) {
+            total += ponds.get(i).getCurrentWaterLevel();
+        }
+        return total / (ponds.size() + savedCount);
+    }
+
+    @Override
+    public Iterator<PondModel> iterator() {
+        return ponds.iterator();
+    }
+}
@@ -0,0 +1,276 @@
+package rainmaker.model;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Uniform grid over the world that finds the objects near an area without
+ * looking at all of them. Every object is listed in each cell its bounds
+ * touch; anything outside the world is kept in the edge cells.
+ * <p>
+ * Only cells with something in them exist, kept in an open addressing table
+ * keyed by their coordinates, so a grid over even a huge world costs memory
+ * in proportion to what's in it. The lists of emptied cells are kept for
+ * cells created later.
+ * <p>
+ * Objects have to be updated after they move or grow. Updating only touches
+ * the cells when the object actually crossed into different ones, and
+ * neither updating nor querying allocates, other than for cells beyond the
+ * most that were ever in use at once.
+ * <p>
+ * Queries return candidates whose bounds come near the area, callers still
+ * do their exact test on them.
+ */
+public class SpatialGrid<T extends ObjectModel> {
+    public static final double DEFAULT_CELL_SIZE = 100;
+
+    private final double cellSize;
+    private final int columns;
+    private final int rows;
+    // Cell keys and lists by slot, a null list marks a free slot
+    private long[] keys;
+    private ArrayList<Entry<T>>[] cells;
+    private int cellCount = 0;
+    private final ArrayList<ArrayList<Entry<T>>> spareCells =
+            new ArrayList<>();
+    private final IdentityHashMap<T, Entry<T>> entries =
+            new IdentityHashMap<>();
+    // Marks entries already collected by the current query, an object
+    // spanning several cells is only returned once
+    private int queryStamp = 0;
+
+    public SpatialGrid() {
+        this(WorldBounds.DEFAULT);
+    }
+
+    public SpatialGrid(WorldBounds world) {
+        this(world.getWidth(), world.getHeight(), DEFAULT_CELL_SIZE);
+    }
+
+    public SpatialGrid(double width, double height, double cellSize) {
+        this.cellSize = cellSize;
+        columns = Math.max(1, (int) Math.ceil(width / cellSize));
+        rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        allocateTable(64);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void allocateTable(int capacity) {
+        keys = new long[capacity];
+        cells = new ArrayList[capacity];
+    }
+
+    private static class Entry<T> {
+        final T object;
+        int minColumn;
+        int minRow;
+        int maxColumn;
+        int maxRow;
+        int stamp;
+
+        Entry(T object) {
+            this.object = object;
+        }
+    }
+
+    public void add(T object) {
+        if (entries.containsKey(object)) return;
+        Entry<T> entry = new Entry<>(object);
+        entries.put(object, entry);
+        setCells(entry, object);
+        addToCells(entry);
+    }
+
+    public void remove(T object) {
+        Entry<T> entry = entries.remove(object);
+        if (entry == null) return;
+        removeFromCells(entry);
+    }
+
+    /**
+     * Moves the object to the cells its current bounds touch
+     */
+    public void update(T object) {
+        Entry<T> entry = entries.get(object);
+        if (entry == null) return;
+
+        int minColumn = column(object.getMinX());
+        int minRow = row(object.getMinY());
+        int maxColumn = column(object.getMaxX());
+        int maxRow = row(object.getMaxY());
+        if (minColumn == entry.minColumn && minRow == entry.minRow &&
+                maxColumn == entry.maxColumn && maxRow == entry.maxRow) {
+            return;
+        }
+
+        removeFromCells(entry);
+        setCells(entry, object);
+        addToCells(entry);
+    }
+
+    public void clear() {
+        for (int slot = 0; slot < cells.length; slot++) {
+            if (cells[slot] == null) continue;
+            cells[slot].clear();
+            spareCells.add(cells[slot]);
+            cells[slot] = null;
+        }
+        cellCount = 0;
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Adds to out every object whose cells overlap the given box
+     */
+    public void query(double minX, double minY, double maxX, double maxY,
+                      List<T> out) {
+        int stamp = ++queryStamp;
+        int maxColumn = column(maxX);
+        int maxRow = row(maxY);
+        for (int row = row(minY); row <= maxRow; row++) {
+            for (int column = column(minX); column <= maxColumn; column++) {
+                ArrayList<Entry<T>> cell = cells[slot(column, row)];
+                if (cell == null) continue;
+                for (int i = 0; i < cell.size(); i++) {
+                    Entry<T> entry = cell.get(i);
+                    if (entry.stamp == stamp) continue;
+                    entry.stamp = stamp;
+                    out.add(entry.object);
+                }
+            }
+        }
+    }
+
+    /**
+     * Objects that may overlap the bounds of the given one
+     */
+    public void query(ObjectModel area, List<T> out) {
+        query(area.getMinX(), area.getMinY(), area.getMaxX(), area.getMaxY(),
+                out);
+    }
+
+    /**
+     * Objects whose bounds may come within the radius of the point, which
+     * includes every object centered within it
+     */
+    public void queryRadius(double x, double y, double radius, List<T> out) {
+        query(x - radius, y - radius, x + radius, y + radius, out);
+    }
+
+    private void setCells(Entry<T> entry, T object) {
+        entry.minColumn = column(object.getMinX());
+        entry.minRow = row(object.getMinY());
+        entry.maxColumn = column(object.getMaxX());
+        entry.maxRow = row(object.getMaxY());
+    }
+
+    private void addToCells(Entry<T> entry) {
+        for (int row = entry.minRow; row <= entry.maxRow; row++) {
+            for (int column = entry.minColumn; column <= entry.maxColumn;
+                 column++) {
+                cellForAdding(column, row).add(entry);
+            }
+        }
+    }
+
+    private void removeFromCells(Entry<T> entry) {
+        for (int row = entry.minRow; row <= entry.maxRow; row++) {
+            for (int column = entry.minColumn; column <= entry.maxColumn;
+                 column++) {
+                int slot = slot(column, row);
+                cells[slot].remove(entry);
+                if (cells[slot].isEmpty()) removeCell(slot);
+            }
+        }
+    }
+
+    /**
+     * Slot of the cell, or of the free slot it would go in
+     */
+    private int slot(int column, int row) {
+        long key = (long) row * columns + column;
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (cells[slot] != null && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int hash(long key) {
+        int hash = (int) (key ^ (key >>> 32)) * 0x9e3779b9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private ArrayList<Entry<T>> cellForAdding(int column, int row) {
+        int slot = slot(column, row);
+        if (cells[slot] != null) return cells[slot];
+
+        // Kept at most three quarters full
+        if ((cellCount + 1) * 4 > keys.length * 3) {
+            grow();
+            slot = slot(column, row);
+        }
+        int spares = spareCells.size();
+        cells[slot] = spares > 0 ? spareCells.remove(spares - 1)
+                : new ArrayList<>();
+        keys[slot] = (long) row * columns + column;
+        cellCount++;
+        return cells[slot];
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        ArrayList<Entry<T>>[] oldCells = cells;
+        allocateTable(oldKeys.length * 2);
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldCells.length; i++) {
+            if (oldCells[i] == null) continue;
+            int slot = hash(oldKeys[i]) & mask;
+            while (cells[slot] != null) slot = (slot + 1) & mask;
+            keys[slot] = oldKeys[i];
+            cells[slot] = oldCells[i];
+        }
+    }
+
+    /**
+     * Frees the slot of an emptied cell, moving back the cells after it that
+     * would no longer be found past the gap
+     */
+    private void removeCell(int slot) {
+        spareCells.add(cells[slot]);
+        cells[slot] = null;
+        cellCount--;
+
+        int mask = keys.length - 1;
+        int gap = slot;
+        for (int i = (gap + 1) & mask; cells[i] != null; i = (i + 1) & mask) {
+            int home = hash(keys[i]) & mask;
+            // Stays put when its home slot is cyclically within (gap, i]
+            boolean stays = gap <= i ? gap < home && home <= i
+                    : gap < home || home <= i;
+            if (stays) continue;
+            keys[gap] = keys[i];
+            cells[gap] = cells[i];
+            cells[i] = null;
+            gap = i;
+        }
+    }
+
+    private int column(double x) {
+        return clamp((int) Math.floor(x / cellSize), columns);
+    }
+
+    private int row(double y) {
+        return clamp((int) Math.floor(y / cellSize), rows);
+    }
+
+    private static int clamp(int index, int count) {
+        return Math.max(0, Math.min(count - 1, index));
+    }
+}
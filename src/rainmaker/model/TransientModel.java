@@ -0,0 +1,227 @@
+package rainmaker.model;
+
+import rainmaker.services.DiagnosticsLog;
+import rainmaker.services.StateVector;
+import rainmaker.services.Vector;
+
+/**
+ * An object that drifts across the world and dies once it has left it. The
+ * world it is in is given when it spawns, the default one until then.
+ * <p>
+ * Moving allocates nothing: the velocity is kept as two doubles and only
+ * converted from speed and heading when one of them changes, and the states
+ * are created once per object.
+ * <p>
+ * An object still alive after 60 seconds per screen it could cross is
+ * reported to the DiagnosticsLog as stuck, then again every
+ * STUCK_REPORT_INTERVAL seconds for as long as it stays alive.
+ */
+public abstract class TransientModel extends ObjectModel {
+    private static final double STUCK_REPORT_INTERVAL = 10;
+    private static final DiagnosticsLog.Event STUCK = new DiagnosticsLog.Event(
+            "transient-stuck", "x", "y", "speed", "heading", "velocityX",
+            "velocityY", "withinBounds", "shouldDie");
+    private double speed;
+    private double heading;
+    // Velocity in world units per second
+    private double velocityX;
+    private double velocityY;
+    private final State createdState = new CreatedState();
+    private final State inViewState = new InViewState();
+    private final State deadState = new DeadState();
+    private State state = createdState;
+    private WorldBounds world = WorldBounds.DEFAULT;
+    private double elapsedTime = 0;
+    private double nextStuckReport = 0;
+
+    public TransientModel(Vector initPos, double speed, double heading) {
+        super(initPos.getX(), initPos.getY());
+        this.speed = speed;
+        this.heading = heading;
+        updateVelocity();
+    }
+
+    public TransientModel(Vector initPos) {
+        this(initPos, 0, 0);
+    }
+
+    /**
+     * Starts the object's life over at the given position, standing still,
+     * for objects that are reused instead of created anew
+     */
+    protected void respawn(double x, double y) {
+        respawn(x, y, world);
+    }
+
+    protected void respawn(double x, double y, WorldBounds world) {
+        this.world = world;
+        this.x = x;
+        this.y = y;
+        speed = 0;
+        heading = 0;
+        updateVelocity();
+        state = createdState;
+        elapsedTime = 0;
+        nextStuckReport = 0;
+    }
+
+    /**
+     * Writes where the object is, how it moves and how far along its life
+     * it is, for restore() to read back in the same order
+     */
+    void save(StateVector out) {
+        out.putDouble(x);
+        out.putDouble(y);
+        out.putDouble(speed);
+        out.putDouble(heading);
+        out.putInt(state == deadState ? 2 : state == inViewState ? 1 : 0);
+        out.putDouble(elapsedTime);
+        out.putDouble(nextStuckReport);
+    }
+
+    void restore(StateVector in, WorldBounds world) {
+        this.world = world;
+        x = in.getDouble();
+        y = in.getDouble();
+        speed = in.getDouble();
+        heading = in.getDouble();
+        updateVelocity();
+        state = switch (in.getInt()) {
+            case 2 -> deadState;
+            case 1 -> inViewState;
+            default -> createdState;
+        };
+        elapsedTime = in.getDouble();
+        nextStuckReport = in.getDouble();
+    }
+
+    protected void setHeading(double heading) {
+        if (heading == this.heading) return;
+        this.heading = heading;
+        updateVelocity();
+    }
+
+    protected void setSpeed(double speed) {
+        if (speed == this.speed) return;
+        this.speed = speed;
+        updateVelocity();
+    }
+
+    private void updateVelocity() {
+        double magnitude = speed * World.UNIVERSAL_SPEED_MULTIPLIER;
+        double angle = Math.toRadians(heading);
+        velocityX = magnitude * Math.cos(angle);
+        velocityY = magnitude * Math.sin(angle);
+    }
+
+    public double getSpeed() {
+        return speed;
+    }
+
+    public double getHeading() {
+        return heading;
+    }
+
+    /**
+     * Seconds this object has been alive
+     */
+    public double getAge() {
+        return elapsedTime;
+    }
+
+    public boolean isDead() {
+        return state == deadState;
+    }
+
+    private boolean isWithinBounds() {
+        double width = getWidth();
+        double height = getHeight();
+        return x > -width / 2 &&
+                x < world.getWidth() + width / 2 &&
+                y > -height / 2 &&
+                y < world.getHeight() + height / 2;
+    }
+
+    private boolean shouldDie() {
+        double width = getWidth();
+        double height = getHeight();
+        return x < -width / 2 && velocityX < 0 ||
+                x > world.getWidth() + width / 2 &&
+                        velocityX > 0 ||
+                y < -height / 2 &&
+                        velocityY < 0 ||
+                y > world.getHeight() + height / 2 &&
+                        velocityY > 0;
+    }
+
+    protected void move(double frameTime) {
+        state.nextFrame(frameTime);
+        elapsedTime += frameTime;
+        if (state != deadState) reportIfStuck();
+    }
+
+    private void reportIfStuck() {
+        if (nextStuckReport == 0) nextStuckReport = 60 * world.getSpanScale();
+        if (elapsedTime < nextStuckReport) return;
+        nextStuckReport = elapsedTime + STUCK_REPORT_INTERVAL;
+
+        DiagnosticsLog.get().record(DiagnosticsLog.Level.WARN, STUCK, this,
+                state.name, x, y, speed, heading, velocityX, velocityY,
+                isWithinBounds() ? 1 : 0, shouldDie() ? 1 : 0);
+    }
+
+    abstract class State {
+        private final String name;
+
+        State(String name) {
+            this.name = name;
+        }
+
+        public abstract void nextFrame(double frameTime);
+        protected void move(double frameTime) {
+            x += velocityX * frameTime;
+            y += velocityY * frameTime;
+        }
+    }
+
+    class CreatedState extends State {
+        CreatedState() {
+            super("created");
+        }
+
+        public void nextFrame(double frameTime) {
+            if (isWithinBounds()) {
+                state = inViewState;
+            }
+
+            if(shouldDie()) {
+                state = deadState;
+            }
+
+            move(frameTime);
+        }
+    }
+
+    class InViewState extends State {
+        InViewState() {
+            super("in-view");
+        }
+
+        public void nextFrame(double frameTime) {
+            if (shouldDie()) {
+                state = deadState;
+            }
+            move(frameTime);
+        }
+    }
+
+    class DeadState extends State {
+        DeadState() {
+            super("dead");
+        }
+
+        public void nextFrame(double frameTime) {
+            // Do nothing
+        }
+    }
+}
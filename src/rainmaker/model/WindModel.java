@@ -0,0 +1,91 @@
+package rainmaker.model;
+
+import rainmaker.Observer;
+import rainmaker.Subject;
+import rainmaker.Updatable;
+import rainmaker.services.RandomGenerator;
+import rainmaker.services.StateVector;
+
+import java.util.ArrayList;
+
+public class WindModel implements Subject, Updatable {
+    public static final double MAX_SPEED = 2;
+    private static final double MIN_SPEED = 0.2;
+    private static final double MAX_DURATION_FOR_CHANGE = 10;
+    private static final double MIN_DURATION_FOR_CHANGE = 5;
+    private final double direction;
+    private ArrayList<Observer> observers = new ArrayList<>();
+    private final RandomGenerator random;
+    private double speed;
+    private double elapsed = 0;
+    private double randomDuration;
+
+    public WindModel(RandomGenerator random) {
+        this.random = random;
+        this.randomDuration = random.getRandomDouble(
+                MIN_DURATION_FOR_CHANGE, MAX_DURATION_FOR_CHANGE);
+        this.speed = 0;
+        this.direction = 0;
+    }
+
+    /**
+     * Wind changes randomly every 5 to 10 seconds
+     */
+    @Override
+    public void update(double frameTime) {
+        elapsed += frameTime;
+        if (elapsed > randomDuration) {
+            elapsed = 0;
+            randomDuration = random.getRandomDouble(5, 10);
+            speed = random.getRandomDouble(MIN_SPEED, MAX_SPEED);
+            notifyObservers();
+        }
+    }
+
+    void save(StateVector out) {
+        out.putDouble(speed);
+        out.putDouble(elapsed);
+        out.putDouble(randomDuration);
+        random.save(out);
+    }
+
+    /**
+     * Observers aren't told, they're expected to register again
+     */
+    void restore(StateVector in) {
+        speed = in.getDouble();
+        elapsed = in.getDouble();
+        randomDuration = in.getDouble();
+        random.restore(in);
+    }
+
+    public double getSpeed() {
+        return speed;
+    }
+
+    public double getDirection() {
+        return direction;
+    }
+
+    @Override
+    public void registerObserver(Observer observer) {
+        observers.add(observer);
+        observer.update(this);
+    }
+
+    @Override
+    public void removeObserver(Observer observer) {
+        observers.remove(observer);
+    }
+
+    public int getObserverCount() {
+        return observers.size();
+    }
+
+    @Override
+    public void notifyObservers() {
+        for (Observer observer : observers) {
+            observer.update(this);
+        }
+    }
+}
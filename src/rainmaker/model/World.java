@@ -0,0 +1,515 @@
+package rainmaker.model;
+
+import rainmaker.GameLoop;
+import rainmaker.jfr.ResetEvent;
+import rainmaker.jfr.SpawnEvent;
+import rainmaker.jfr.WorldTickEvent;
+import rainmaker.services.RandomGenerator;
+import rainmaker.services.StateVector;
+import rainmaker.services.Vector;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * The whole simulation, without any JavaFX. A World only changes when its
+ * GameLoop ticks, so it can be run headless as fast as the CPU allows or be
+ * rendered by Game at the display's rate.
+ * <p>
+ * All randomness comes from the world's seed, split into one stream per
+ * subsystem so that, for example, an extra cloud spawning doesn't change
+ * where the next pond goes. Two worlds with the same seed fed the same input
+ * on the same ticks stay identical, which is why all of the player's Input
+ * goes through input().
+ * <p>
+ * A world can be any size, WIDTH by HEIGHT unless given bounds. Ponds and
+ * clouds only exist in the Chunks around the helicopter, so a larger world
+ * costs no more to tick, only blimps are spread over the whole of it.
+ */
+public class World {
+    // Size of a default world, which is exactly what fits in the window
+    public static final int WIDTH = 800;
+    public static final int HEIGHT = 800;
+    public static final double UNIVERSAL_SPEED_MULTIPLIER = 30;
+    public static final double PAD_RADIUS = WIDTH / 14;
+    private static final double PAD_INIT_Y = 100;
+    private static final int COPTER_INIT_FUEL = 25000;
+    private static final double WINNING_WATER_LEVEL = 80;
+    private final long seed;
+    private final WorldBounds bounds;
+    private final RandomGenerator pondRandom;
+    private final GameLoop gameLoop = new GameLoop();
+    private final Chunks chunks;
+    private final WindModel wind;
+    private final CloudsModel clouds;
+    private final BlimpsModel blimps;
+    // Scratch lists for the grid queries, reused every tick
+    private final ArrayList<CloudModel> nearbyClouds = new ArrayList<>();
+    private final ArrayList<PondModel> nearbyPonds = new ArrayList<>();
+    private final ArrayList<BlimpModel> nearbyBlimps = new ArrayList<>();
+    private final ArrayList<BlimpModel> refuelingBlimps = new ArrayList<>();
+    private WorldListener listener = new WorldListener() {};
+    private Consumer<Input> onInput = input -> {};
+    private HelicopterModel helicopter;
+    private HelipadModel helipad;
+    private PondsModel ponds;
+    private WorldHistory history;
+    // Pairs tested against each other since the last tick's interactions,
+    // for the flight recorder
+    private int collisionChecks = 0;
+
+    public World() {
+        this(new SplittableRandom().nextLong());
+    }
+
+    public World(long seed) {
+        this(seed, WorldBounds.DEFAULT);
+    }
+
+    public World(long seed, WorldBounds bounds) {
+        this.seed = seed;
+        this.bounds = bounds;
+        chunks = new Chunks(bounds);
+
+        // The order of the splits is part of what a seed means, only ever
+        // append new streams at the end
+        RandomGenerator random = new RandomGenerator(seed);
+        wind = new WindModel(random.split());
+        clouds = new CloudsModel(random.split(), chunks);
+        blimps = new BlimpsModel(random.split(), bounds);
+        pondRandom = random.split();
+
+        clouds.setOnCloudAdded(cloud -> {
+            wind.registerObserver(cloud);
+            listener.cloudAdded(cloud);
+            SpawnEvent.emit("cloud", false, cloud.getX(), cloud.getY());
+        });
+        clouds.setOnCloudRemoved(cloud -> {
+            wind.removeObserver(cloud);
+            listener.cloudRemoved(cloud);
+            SpawnEvent.emit("cloud", true, cloud.getX(), cloud.getY());
+        });
+        blimps.setOnBlimpAdded(blimp -> {
+            listener.blimpAdded(blimp);
+            SpawnEvent.emit("blimp", false, blimp.getX(), blimp.getY());
+        });
+        blimps.setOnBlimpRemoved(blimp -> {
+            listener.blimpRemoved(blimp);
+            SpawnEvent.emit("blimp", true, blimp.getX(), blimp.getY());
+        });
+        chunks.setOnChunkLoaded(chunk -> {
+            ponds.load(chunk);
+            clouds.load(chunk);
+        });
+        chunks.setOnChunkUnloaded(chunk -> {
+            ponds.unload(chunk);
+            clouds.unload(chunk);
+        });
+
+        gameLoop.register(GameLoop.Phase.ENVIRONMENT, wind);
+        gameLoop.register(GameLoop.Phase.SPAWNERS, chunks);
+        gameLoop.register(GameLoop.Phase.SPAWNERS, clouds);
+        gameLoop.register(GameLoop.Phase.SPAWNERS, blimps);
+        gameLoop.register(GameLoop.Phase.INTERACTIONS, this::update);
+
+        reset();
+    }
+
+    public void setListener(WorldListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * The consumer will be given all the input from now on, just before it
+     * is applied
+     */
+    public void setOnInput(Consumer<Input> onInput) {
+        this.onInput = onInput;
+    }
+
+    /**
+     * Applies the player's input, between ticks or from the INPUT phase.
+     * Either way it comes before anything else of the tick with the loop's
+     * current tick count.
+     */
+    public void input(Input input) {
+        onInput.accept(input);
+        switch (input) {
+            case SPEED_UP -> helicopter.speedUp();
+            case SPEED_DOWN -> helicopter.speedDown();
+            case TURN_LEFT -> helicopter.turnLeft();
+            case TURN_RIGHT -> helicopter.turnRight();
+            case SEED_CLOUDS -> seedClouds();
+            case TOGGLE_IGNITION -> helicopter.toggleIgnition();
+            case RESET -> reset();
+            case START -> gameLoop.start();
+            case REWIND -> {
+                if (history != null) history.rewind(WorldHistory.REWIND_TICKS);
+            }
+        }
+    }
+
+    /**
+     * Keeps the history from now on, so the player can rewind. A reset
+     * clears it, there's no going back to an earlier game.
+     */
+    public void setHistory(WorldHistory history) {
+        if (this.history != null) gameLoop.unregister(this.history);
+        this.history = history;
+        if (history != null) {
+            gameLoop.register(GameLoop.Phase.HISTORY, history);
+        }
+    }
+
+    /**
+     * Null unless one was set
+     */
+    public WorldHistory getHistory() {
+        return history;
+    }
+
+    /**
+     * Starts over with a new helicopter, no clouds or blimps, and a new map
+     * of ponds. The views of a world that has just been reset pick up its
+     * ponds from getPonds(), only ponds of chunks loaded later are reported
+     * to the listener.
+     */
+    public void reset() {
+        ResetEvent event = new ResetEvent();
+        event.begin();
+
+        detachEverything();
+        clouds.clear();
+
+        Vector padPosition = padPosition();
+        helipad = new HelipadModel(PAD_RADIUS, padPosition.getX(),
+                padPosition.getY());
+        createHelicopter();
+
+        // A pond won't spawn on the helipad, can be used to add more obstacles
+        ArrayList<ObjectModel> pondObstacles = new ArrayList<>();
+        pondObstacles.add(helipad);
+        ponds = new PondsModel(pondObstacles, bounds);
+        chunks.reset(pondRandom.nextLong(), helicopter);
+        addHelicopterAndPonds();
+        if (history != null) history.clear();
+
+        if (event.shouldCommit()) {
+            event.seed = seed;
+            event.commit();
+        }
+    }
+
+    /**
+     * Writes the world's whole simulated state, everything the ticks after
+     * it depend on. The world has to be between ticks. The tick count isn't
+     * part of it, it only ever goes up.
+     */
+    void saveState(StateVector out) {
+        out.clear();
+        out.putBoolean(gameLoop.isRunning());
+        pondRandom.save(out);
+        wind.save(out);
+        helicopter.save(out);
+        chunks.save(out);
+        ponds.save(out);
+        clouds.save(out);
+        blimps.save(out);
+    }
+
+    /**
+     * Puts the world back into a saved state, which plays out from there
+     * exactly as it did after being saved. Like reset() it reports none of
+     * it to the listener except through worldRestored(), whose views pick up
+     * everything from the world. The helipad stays, as do the ponds of the
+     * chunks loaded both before and after.
+     */
+    void restoreState(StateVector in) {
+        in.rewind();
+        boolean running = in.getBoolean();
+        pondRandom.restore(in);
+        wind.restore(in);
+
+        detachEverything();
+        createHelicopter();
+        helicopter.restore(in);
+        chunks.restore(in, helicopter);
+        ponds.reload(chunks);
+        ponds.restore(in);
+        clouds.restore(in);
+        for (int i = 0; i < clouds.size(); i++) {
+            wind.registerObserver(clouds.get(i));
+        }
+        blimps.restore(in);
+        for (int i = 0; i < blimps.size(); i++) {
+            if (blimps.get(i).isRefueling()) refuelingBlimps.add(blimps.get(i));
+        }
+        addHelicopterAndPonds();
+
+        if (!running) {
+            gameLoop.stop();
+        } else if (!gameLoop.isRunning()) {
+            gameLoop.start();
+        }
+        listener.worldRestored();
+    }
+
+    /**
+     * Takes the clouds off the wind and the helicopter and ponds off the
+     * loop, and drops the blimps
+     */
+    private void detachEverything() {
+        for (CloudModel cloud : clouds) {
+            wind.removeObserver(cloud);
+        }
+        blimps.clear();
+        refuelingBlimps.clear();
+
+        if (helicopter != null) gameLoop.unregister(helicopter);
+        if (ponds != null) gameLoop.unregister(ponds);
+    }
+
+    /**
+     * The helicopter starts on the pad, centered along the bottom edge
+     */
+    private Vector padPosition() {
+        return new Vector(bounds.getWidth() / 2, PAD_INIT_Y);
+    }
+
+    /**
+     * A new helicopter on the pad, not yet ticked
+     */
+    private void createHelicopter() {
+        helicopter = new HelicopterModel(padPosition(), COPTER_INIT_FUEL);
+        helicopter.setOnCrash(this::handleCopterCrash);
+        helicopter.setOnLandedAction(this::handleCopterLanded);
+        helicopter.setLandingLocation(helipad);
+        helicopter.setOnFlyingAction(() -> listener.helicopterFlying());
+    }
+
+    /**
+     * Chunks loaded before this aren't reported to the listener
+     */
+    private void addHelicopterAndPonds() {
+        ponds.setOnPondAdded(pond -> {
+            listener.pondAdded(pond);
+            SpawnEvent.emit("pond", false, pond.getX(), pond.getY());
+        });
+        ponds.setOnPondRemoved(pond -> {
+            listener.pondRemoved(pond);
+            SpawnEvent.emit("pond", true, pond.getX(), pond.getY());
+        });
+
+        gameLoop.register(GameLoop.Phase.PLAYER, helicopter);
+        gameLoop.register(GameLoop.Phase.TERRAIN, ponds);
+    }
+
+    /**
+     * Interactions between the collections, runs after every object has
+     * moved for this tick. Loops by index so that ticking doesn't allocate
+     * iterators, and pairs are found through the collections' spatial grids
+     * rather than by testing everything against everything.
+     */
+    private void update(double frameTime) {
+        fillPonds(frameTime);
+        checkBlimpHeliRefueling(frameTime);
+        provideBlimpsWithHeliDistance();
+        recordTick();
+    }
+
+    private void recordTick() {
+        if (WorldTickEvent.isTypeEnabled()) {
+            WorldTickEvent event = new WorldTickEvent();
+            event.tick = gameLoop.getTickCount();
+            event.clouds = clouds.size();
+            event.ponds = ponds.size();
+            event.blimps = blimps.size();
+            event.chunks = chunks.getLoadedCount();
+            event.collisionChecks = collisionChecks;
+            event.commit();
+        }
+        collisionChecks = 0;
+    }
+
+    private void provideBlimpsWithHeliDistance() {
+        for (int i = 0; i < blimps.size(); i++) {
+            BlimpModel blimp = blimps.get(i);
+            double distance = helicopter.distanceTo(blimp);
+            blimp.updateDistanceFromMainPlayer(distance);
+        }
+    }
+
+    /**
+     * Only blimps under the helicopter can be refueling, the ones that were
+     * refueling last tick are switched off first
+     */
+    private void checkBlimpHeliRefueling(double frameTime) {
+        for (int i = 0; i < refuelingBlimps.size(); i++) {
+            refuelingBlimps.get(i).isRefueling(false);
+        }
+        refuelingBlimps.clear();
+
+        nearbyBlimps.clear();
+        blimps.findNear(helicopter, nearbyBlimps);
+        for (int i = 0; i < nearbyBlimps.size(); i++) {
+            BlimpModel blimp = nearbyBlimps.get(i);
+            collisionChecks++;
+            boolean isOverBlimp = helicopter.intersects(blimp);
+            if (!isOverBlimp) continue;
+            if (Math.abs(helicopter.getSpeed() - blimp.getSpeed()) > 0.5) {
+                continue;
+            }
+            // also check if their heading angle is within 20 degrees
+            if (smallestDifferenceBetweenAngles(helicopter.getHeading(),
+                    blimp.getHeading()) > 20) {
+                continue;
+            }
+
+            double siphonedFuel = blimp.siphonFuel(frameTime * 1000);
+            helicopter.refuel(siphonedFuel);
+            blimp.isRefueling(true);
+            refuelingBlimps.add(blimp);
+        }
+    }
+
+    private double smallestDifferenceBetweenAngles(double a, double b) {
+        double difference = Math.abs(a - b);
+        if (difference > 180) {
+            difference = 360 - difference;
+        }
+        return difference;
+    }
+
+    /**
+     * A raining cloud fills every pond within eight of the pond's radii, so
+     * only ponds within eight of the largest radius are looked at
+     */
+    private void fillPonds(double frameTime) {
+        double searchRadius = ponds.getMaxRadius() * 8;
+        for (int i = 0; i < clouds.size(); i++) {
+            CloudModel cloud = clouds.get(i);
+            if (!cloud.isRaining()) continue;
+            nearbyPonds.clear();
+            ponds.findNear(cloud.getCenterX(), cloud.getCenterY(),
+                    searchRadius, nearbyPonds);
+            for (int j = 0; j < nearbyPonds.size(); j++) {
+                PondModel pond = nearbyPonds.get(j);
+                collisionChecks++;
+                int distance = (int) cloud.distanceTo(pond);
+                double pondDiameter = pond.getRadius() * 2;
+                double maxDistance = pondDiameter * 4;
+                if (distance >= maxDistance) continue;
+                double saturationProp =
+                        (double) cloud.getSaturation() / 100;
+                double distanceProp = 1 - (distance / maxDistance);
+                pond.addWater(distanceProp * saturationProp * frameTime * 2);
+            }
+        }
+    }
+
+    private void handleCopterCrash() {
+        gameLoop.stop();
+        listener.gameLost();
+    }
+
+    private void handleCopterLanded() {
+        listener.helicopterLanded();
+
+        // If the player decides to land before reach the desired score, they
+        // will have another chance to fly and seeding the clouds
+        if (ponds.getAvgWaterLevel() < WINNING_WATER_LEVEL) return;
+
+        gameLoop.stop();
+        listener.gameWon(getScore());
+    }
+
+    public double getScore() {
+        return (ponds.getAvgWaterLevel() / 100) * helicopter.getFuel();
+    }
+
+    public void seedClouds() {
+        nearbyClouds.clear();
+        clouds.findNear(helicopter, nearbyClouds);
+        for (int i = 0; i < nearbyClouds.size(); i++) {
+            CloudModel cloud = nearbyClouds.get(i);
+            collisionChecks++;
+            if (helicopter.intersects(cloud)) {
+                helicopter.seedCloud(cloud);
+            }
+        }
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public WorldBounds getBounds() {
+        return bounds;
+    }
+
+    /**
+     * Hash of the world's simulated state, equal for two worlds that have
+     * played out the same way
+     */
+    public long checksum() {
+        long hash = gameLoop.getTickCount();
+        hash = mix(hash, helicopter.getX());
+        hash = mix(hash, helicopter.getY());
+        hash = mix(hash, helicopter.getFuel());
+        hash = mix(hash, helicopter.getHeading());
+        hash = mix(hash, wind.getSpeed());
+        for (CloudModel cloud : clouds) {
+            hash = mix(hash, cloud.getX());
+            hash = mix(hash, cloud.getY());
+            hash = mix(hash, cloud.getSaturation());
+        }
+        for (BlimpModel blimp : blimps) {
+            hash = mix(hash, blimp.getX());
+            hash = mix(hash, blimp.getY());
+            hash = mix(hash, blimp.getFuel());
+        }
+        for (PondModel pond : ponds) {
+            hash = mix(hash, pond.getX());
+            hash = mix(hash, pond.getY());
+            hash = mix(hash, pond.getCurrentWaterLevel());
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, double value) {
+        return hash * 31 + Double.doubleToLongBits(value);
+    }
+
+    public GameLoop getGameLoop() {
+        return gameLoop;
+    }
+
+    public HelicopterModel getHelicopter() {
+        return helicopter;
+    }
+
+    public HelipadModel getHelipad() {
+        return helipad;
+    }
+
+    public PondsModel getPonds() {
+        return ponds;
+    }
+
+    public CloudsModel getClouds() {
+        return clouds;
+    }
+
+    public Chunks getChunks() {
+        return chunks;
+    }
+
+    public BlimpsModel getBlimps() {
+        return blimps;
+    }
+
+    public WindModel getWind() {
+        return wind;
+    }
+}
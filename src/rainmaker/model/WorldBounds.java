@@ -0,0 +1,70 @@
+package rainmaker.model;
+
+/**
+ * Size of a world, everything in it lives between (0, 0) and (width,
+ * height). A world larger than the default one holds proportionally more
+ * of everything, so it is as busy wherever the camera is. A density above
+ * one packs that many times as much into the same space, for measuring
+ * how the simulation copes with crowds.
+ */
+public final class WorldBounds {
+    public static final WorldBounds DEFAULT =
+            new WorldBounds(World.WIDTH, World.HEIGHT);
+    private final double width;
+    private final double height;
+    private final int density;
+
+    public WorldBounds(double width, double height) {
+        this(width, height, 1);
+    }
+
+    public WorldBounds(double width, double height, int density) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("World size must be " +
+                    "positive, got " + width + "x" + height);
+        }
+        if (density < 1) {
+            throw new IllegalArgumentException("World density must be at " +
+                    "least 1, got " + density);
+        }
+        this.width = width;
+        this.height = height;
+        this.density = density;
+    }
+
+    public double getWidth() {
+        return width;
+    }
+
+    public double getHeight() {
+        return height;
+    }
+
+    /**
+     * How many times as much of everything the world holds as it would at
+     * its size alone
+     */
+    public int getDensity() {
+        return density;
+    }
+
+    /**
+     * How many of something a world of this size should hold, given how
+     * many the default world holds. Never fewer than in the default world
+     * at the same density.
+     */
+    public int scaleCount(int defaultCount) {
+        double areaScale = (width * height) / (World.WIDTH * World.HEIGHT);
+        return density * Math.max(defaultCount, (int) Math.round(
+                defaultCount * areaScale));
+    }
+
+    /**
+     * How many default worlds it takes to span this one along its longer
+     * side, at least one
+     */
+    public double getSpanScale() {
+        return Math.max(1, Math.max(width / World.WIDTH,
+                height / World.HEIGHT));
+    }
+}
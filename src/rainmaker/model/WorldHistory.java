@@ -0,0 +1,367 @@
+package rainmaker.model;
+
+import rainmaker.GameLoop;
+import rainmaker.Updatable;
+import rainmaker.services.LatencyHistogram;
+import rainmaker.services.StateVector;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * The last few seconds of a World, kept so the player can go back in time.
+ * After every tick the world's whole state is saved and encoded into a ring
+ * of off-heap memory allocated up front; once the ring is full the oldest
+ * ticks make room for the newest. Set it with World.setHistory() on a world
+ * that hasn't ticked yet.
+ * <p>
+ * Every KEYFRAME_INTERVAL ticks a keyframe stores each value of the state
+ * whole. The ticks in between store, for each value, how much its change
+ * differs from the change of the tick before, as a zigzag varint. Values
+ * that hold still or move steadily come out as zero, and a run of zeros
+ * takes a couple of bytes however long it is. Seeking decodes forward from
+ * the keyframe before the tick sought, so it never goes through more than
+ * KEYFRAME_INTERVAL ticks.
+ * <p>
+ * Eviction drops whole keyframe intervals, so the oldest tick kept is
+ * always a keyframe. How much is kept depends only on the states written,
+ * so a replayed session rewinds exactly as it did when recorded.
+ */
+public class WorldHistory implements Updatable {
+    // How far one rewind goes back
+    public static final int REWIND_TICKS = 6;
+    // Holds DEFAULT_SECONDS of a busy world with room to spare, has to be
+    // the same for a recording and its replay
+    public static final int DEFAULT_CAPACITY = 1 << 20;
+    public static final int DEFAULT_SECONDS = 10;
+    static final int KEYFRAME_INTERVAL = 60;
+    // The most bytes a value can take, a ten byte varint
+    private static final int MAX_VALUE_BYTES = 10;
+    private final World world;
+    private final ByteBuffer ring;
+    // Per frame, oldest first from the first index around the arrays
+    private final int[] frameOffsets;
+    private final int[] frameLengths;
+    private final boolean[] keyframes;
+    private final StateVector state = new StateVector();
+    // A frame is encoded here and copied into the ring whole, and copied
+    // back out to be decoded
+    private byte[] bytes = new byte[4096];
+    private int position = 0;
+    private final LatencyHistogram seekLatency = new LatencyHistogram();
+    private int first = 0;
+    private int frameCount = 0;
+    private int writeOffset = 0;
+    private long bytesUsed = 0;
+    private int sinceKeyframe = 0;
+    // The last frame written, and each value's change in it. Values past
+    // its size are zero.
+    private long[] previous = new long[256];
+    private long[] previousDelta = new long[256];
+    private int previousSize = 0;
+    // The same for decoding, so seeking leaves the encoder alone
+    private long[] decoded = new long[256];
+    private long[] decodedDelta = new long[256];
+    private int decodedSize = 0;
+
+    public WorldHistory(World world) {
+        this(world, DEFAULT_CAPACITY,
+                DEFAULT_SECONDS * (int) GameLoop.TICKS_PER_SECOND);
+    }
+
+    /**
+     * Keeps as many ticks as fit into capacity bytes, and never more than
+     * maxFrames of them
+     */
+    public WorldHistory(World world, int capacity, int maxFrames) {
+        this.world = world;
+        ring = ByteBuffer.allocateDirect(capacity);
+        frameOffsets = new int[maxFrames];
+        frameLengths = new int[maxFrames];
+        keyframes = new boolean[maxFrames];
+    }
+
+    /**
+     * Saves the world's state at the end of the tick
+     */
+    @Override
+    public void update(double frameTime) {
+        world.saveState(state);
+        int size = state.size();
+        int maxBytes = MAX_VALUE_BYTES * (size + 1);
+        if (maxBytes > ring.capacity()) {
+            // Wouldn't fit even alone, keeping nothing is all that's left
+            clear();
+            return;
+        }
+        while (frameCount > 0 && (frameCount == frameOffsets.length ||
+                bytesUsed + maxBytes > ring.capacity())) {
+            evictOldest();
+        }
+
+        boolean keyframe = frameCount == 0 ||
+                sinceKeyframe == KEYFRAME_INTERVAL - 1;
+        if (bytes.length < maxBytes) bytes = new byte[maxBytes];
+        position = 0;
+        if (keyframe) {
+            writeKeyframe(size);
+            sinceKeyframe = 0;
+        } else {
+            writeDelta(size);
+            sinceKeyframe++;
+        }
+        int length = position;
+        copyIn(writeOffset, length);
+
+        int frame = (first + frameCount) % frameOffsets.length;
+        frameOffsets[frame] = writeOffset;
+        frameLengths[frame] = length;
+        writeOffset = (writeOffset + length) % ring.capacity();
+        keyframes[frame] = keyframe;
+        frameCount++;
+        bytesUsed += length;
+    }
+
+    private void writeKeyframe(int size) {
+        ensureCapacity(size);
+        putVarint(size);
+        for (int i = 0; i < size; i++) {
+            long value = state.get(i);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                bytes[position++] = (byte) (value >>> shift);
+            }
+            previous[i] = value;
+            previousDelta[i] = 0;
+        }
+        clearPast(previous, previousDelta, size, previousSize);
+        previousSize = size;
+    }
+
+    private void writeDelta(int size) {
+        ensureCapacity(size);
+        putVarint(size);
+        int zeros = 0;
+        for (int i = 0; i < size; i++) {
+            long value = state.get(i);
+            long delta = value - previous[i];
+            long change = delta - previousDelta[i];
+            previous[i] = value;
+            previousDelta[i] = delta;
+            if (change == 0) {
+                zeros++;
+                continue;
+            }
+            putZeros(zeros);
+            zeros = 0;
+            putVarint(zigzag(change));
+        }
+        putZeros(zeros);
+        clearPast(previous, previousDelta, size, previousSize);
+        previousSize = size;
+    }
+
+    /**
+     * A zero stands for a run of zeros, followed by its length
+     */
+    private void putZeros(int zeros) {
+        if (zeros == 0) return;
+        bytes[position++] = 0;
+        putVarint(zeros - 1);
+    }
+
+    private void ensureCapacity(int size) {
+        if (previous.length >= size) return;
+        int length = Math.max(size, previous.length * 2);
+        previous = Arrays.copyOf(previous, length);
+        previousDelta = Arrays.copyOf(previousDelta, length);
+    }
+
+    /**
+     * Zeroes what a larger frame before left past the end of this one
+     */
+    private static void clearPast(long[] values, long[] deltas, int size,
+                                  int oldSize) {
+        for (int i = size; i < oldSize; i++) {
+            values[i] = 0;
+            deltas[i] = 0;
+        }
+    }
+
+    /**
+     * Drops the oldest frame along with the rest of its keyframe interval
+     */
+    private void evictOldest() {
+        do {
+            bytesUsed -= frameLengths[first];
+            first = (first + 1) % frameOffsets.length;
+            frameCount--;
+        } while (frameCount > 0 && !keyframes[first]);
+    }
+
+    /**
+     * Puts the world back the given number of ticks, or as far as the
+     * history goes. The ticks after it are forgotten, the world goes on
+     * from there as if they had never happened.
+     */
+    public void rewind(int ticks) {
+        if (frameCount == 0) return;
+        long start = System.nanoTime();
+
+        int target = Math.max(0, frameCount - 1 - ticks);
+        int keyframe = target;
+        while (!keyframes[(first + keyframe) % frameOffsets.length]) {
+            keyframe--;
+        }
+        for (int i = keyframe; i <= target; i++) {
+            decode((first + i) % frameOffsets.length);
+        }
+
+        // The encoder goes on from the frame that was sought
+        int frame = (first + target) % frameOffsets.length;
+        for (int i = target + 1; i < frameCount; i++) {
+            bytesUsed -= frameLengths[(first + i) % frameOffsets.length];
+        }
+        frameCount = target + 1;
+        writeOffset = (frameOffsets[frame] + frameLengths[frame]) %
+                ring.capacity();
+        sinceKeyframe = target - keyframe;
+        if (previous.length < decoded.length) {
+            previous = new long[decoded.length];
+            previousDelta = new long[decoded.length];
+        }
+        System.arraycopy(decoded, 0, previous, 0, decoded.length);
+        System.arraycopy(decodedDelta, 0, previousDelta, 0, decoded.length);
+        clearPast(previous, previousDelta, decoded.length, previous.length);
+        previousSize = decodedSize;
+
+        state.set(decoded, decodedSize);
+        world.restoreState(state);
+        seekLatency.record(System.nanoTime() - start);
+    }
+
+    private void decode(int frame) {
+        int length = frameLengths[frame];
+        if (bytes.length < length) bytes = new byte[length];
+        copyOut(frameOffsets[frame], length);
+        position = 0;
+        int size = (int) getVarint();
+        if (decoded.length < size) {
+            int grown = Math.max(size, decoded.length * 2);
+            decoded = Arrays.copyOf(decoded, grown);
+            decodedDelta = Arrays.copyOf(decodedDelta, grown);
+        }
+
+        if (keyframes[frame]) {
+            for (int i = 0; i < size; i++) {
+                long value = 0;
+                for (int j = 0; j < Long.BYTES; j++) {
+                    value = value << 8 | bytes[position++] & 0xFF;
+                }
+                decoded[i] = value;
+                decodedDelta[i] = 0;
+            }
+            clearPast(decoded, decodedDelta, size, decoded.length);
+        } else {
+            int zeros = 0;
+            for (int i = 0; i < size; i++) {
+                long change = 0;
+                if (zeros == 0) {
+                    long code = getVarint();
+                    if (code != 0) {
+                        change = unzigzag(code);
+                    } else {
+                        zeros = (int) getVarint() + 1;
+                    }
+                }
+                if (zeros > 0) zeros--;
+                decodedDelta[i] += change;
+                decoded[i] += decodedDelta[i];
+            }
+            clearPast(decoded, decodedDelta, size, decodedSize);
+        }
+        decodedSize = size;
+    }
+
+    /**
+     * Forgets everything, the next tick starts over with a keyframe
+     */
+    public void clear() {
+        first = 0;
+        frameCount = 0;
+        writeOffset = 0;
+        bytesUsed = 0;
+        sinceKeyframe = 0;
+        Arrays.fill(previous, 0, previousSize, 0);
+        Arrays.fill(previousDelta, 0, previousSize, 0);
+        previousSize = 0;
+    }
+
+    /**
+     * Copies the encoded frame into the ring, wrapping around its end
+     */
+    private void copyIn(int offset, int length) {
+        int tail = Math.min(length, ring.capacity() - offset);
+        ring.put(offset, bytes, 0, tail);
+        ring.put(0, bytes, tail, length - tail);
+    }
+
+    private void copyOut(int offset, int length) {
+        int tail = Math.min(length, ring.capacity() - offset);
+        ring.get(offset, bytes, 0, tail);
+        ring.get(0, bytes, tail, length - tail);
+    }
+
+    private void putVarint(long value) {
+        while ((value & ~0x7FL) != 0) {
+            bytes[position++] = (byte) (value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        bytes[position++] = (byte) value;
+    }
+
+    private long getVarint() {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = bytes[position++];
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+    }
+
+    private static long zigzag(long value) {
+        return value << 1 ^ value >> 63;
+    }
+
+    private static long unzigzag(long value) {
+        return value >>> 1 ^ -(value & 1);
+    }
+
+    /**
+     * How far back the history goes
+     */
+    public double getSeconds() {
+        return frameCount * GameLoop.TICK;
+    }
+
+    public long getBytesUsed() {
+        return bytesUsed;
+    }
+
+    public int getCapacity() {
+        return ring.capacity();
+    }
+
+    /**
+     * The memory a second of history takes, on average over what is held
+     */
+    public double getBytesPerSecond() {
+        return frameCount == 0 ? 0 : bytesUsed / getSeconds();
+    }
+
+    /**
+     * How long each rewind took to decode and restore the world
+     */
+    public LatencyHistogram getSeekLatency() {
+        return seekLatency;
+    }
+}
@@ -0,0 +1,33 @@
+package rainmaker.model;
+
+/**
+ * Receives the events of a World that its presentation has to react to. All
+ * methods are called from inside a tick.
+ */
+public interface WorldListener {
+    default void cloudAdded(CloudModel cloud) {}
+
+    default void cloudRemoved(CloudModel cloud) {}
+
+    default void pondAdded(PondModel pond) {}
+
+    default void pondRemoved(PondModel pond) {}
+
+    default void blimpAdded(BlimpModel blimp) {}
+
+    default void blimpRemoved(BlimpModel blimp) {}
+
+    default void helicopterFlying() {}
+
+    default void helicopterLanded() {}
+
+    default void gameLost() {}
+
+    default void gameWon(double score) {}
+
+    /**
+     * The world was put back into an earlier state, between ticks. Nothing
+     * that was in it before is any more.
+     */
+    default void worldRestored() {}
+}
@@ -0,0 +1,149 @@
+package rainmaker.replay;
+
+import rainmaker.model.Input;
+import rainmaker.model.World;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Records all the Input of a World, each with the tick it was applied on,
+ * so that an InputRecording read back from the file replays the session
+ * exactly. Set it with World.setOnInput() on a world that hasn't ticked yet
+ * and close it once the session is over, which also stores the tick count
+ * and checksum the world ended on for the replay to be checked against.
+ * <p>
+ * Input is encoded into a small buffer and full buffers are written on a
+ * background thread, so the game never waits on the disk.
+ * <p>
+ * The file starts with MAGIC, VERSION, the world's seed, width and height.
+ * Each input is then one byte, the low four bits holding its ordinal and
+ * the high four the ticks since the input before it. Input more than
+ * LONG_GAP - 1 ticks after the one before has LONG_GAP there instead and
+ * the rest of the gap follows as a varint, seven bits to a byte. Held keys
+ * fire every few ticks, so nearly all input takes a single byte. END in
+ * place of an ordinal closes the file, followed by the final tick count and
+ * checksum as longs.
+ */
+public class InputRecorder implements Consumer<Input>, AutoCloseable {
+    static final int MAGIC = 0x524d4952;
+    static final int VERSION = 1;
+    static final int END = 0xF;
+    static final int LONG_GAP = 0xF;
+    private static final int BUFFER_SIZE = 1024;
+    // Room for the longest input, a code byte and a ten byte varint
+    private static final int MAX_INPUT_BYTES = 11;
+    private static final int END_BYTES = 1 + 2 * Long.BYTES;
+    private final World world;
+    private final FileChannel file;
+    private final ExecutorService executor;
+    private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private long lastTick = 0;
+    private boolean closed = false;
+    private boolean failed = false;
+
+    public InputRecorder(Path path, World world) throws IOException {
+        if (world.getGameLoop().getTickCount() != 0) {
+            throw new IllegalArgumentException("A recording has to start " +
+                    "before the world's first tick");
+        }
+        if (world.getBounds().getDensity() != 1) {
+            throw new IllegalArgumentException("Only worlds of density 1 " +
+                    "can be recorded, the file doesn't store it");
+        }
+        this.world = world;
+        file = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "input-recorder");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        buffer.putInt(MAGIC);
+        buffer.put((byte) VERSION);
+        buffer.putLong(world.getSeed());
+        buffer.putDouble(world.getBounds().getWidth());
+        buffer.putDouble(world.getBounds().getHeight());
+    }
+
+    @Override
+    public void accept(Input input) {
+        if (closed) return;
+        if (buffer.remaining() < MAX_INPUT_BYTES) writeBuffer();
+
+        long tick = world.getGameLoop().getTickCount();
+        long gap = tick - lastTick;
+        lastTick = tick;
+        if (gap < LONG_GAP) {
+            buffer.put((byte) (gap << 4 | input.ordinal()));
+        } else {
+            buffer.put((byte) (LONG_GAP << 4 | input.ordinal()));
+            putVarint(gap - LONG_GAP);
+        }
+    }
+
+    private void putVarint(long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Hands the buffer over to the background thread and starts a new one
+     */
+    private void writeBuffer() {
+        ByteBuffer full = buffer.flip();
+        buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        executor.execute(() -> {
+            try {
+                while (full.hasRemaining()) file.write(full);
+            } catch (IOException e) {
+                // Once, not for every buffer after it
+                if (!failed) {
+                    System.err.println("Could not record input: " + e);
+                }
+                failed = true;
+            }
+        });
+    }
+
+    /**
+     * Ends the recording with the world's tick count and checksum, and waits
+     * for everything to be written
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+
+        if (buffer.remaining() < END_BYTES) writeBuffer();
+        buffer.put((byte) END);
+        buffer.putLong(world.getGameLoop().getTickCount());
+        buffer.putLong(world.checksum());
+        writeBuffer();
+        executor.execute(() -> {
+            try {
+                file.close();
+            } catch (IOException e) {
+                System.err.println("Could not record input: " + e);
+            }
+        });
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
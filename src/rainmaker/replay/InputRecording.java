@@ -0,0 +1,163 @@
+package rainmaker.replay;
+
+import rainmaker.model.Input;
+import rainmaker.model.World;
+import rainmaker.model.WorldBounds;
+import rainmaker.model.WorldHistory;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * A session written by an InputRecorder, read back into memory: the world
+ * it was played in and every input with its tick. A file that was cut off,
+ * say by a crash, still replays up to its last whole input, it just has no
+ * checksum to compare the replay with.
+ */
+public class InputRecording {
+    private static final Input[] INPUTS = Input.values();
+    private final long seed;
+    private final WorldBounds bounds;
+    private long[] ticks = new long[256];
+    private Input[] inputs = new Input[256];
+    private int size = 0;
+    private long endTick;
+    private long checksum;
+    private boolean complete = false;
+
+    private InputRecording(long seed, WorldBounds bounds) {
+        this.seed = seed;
+        this.bounds = bounds;
+    }
+
+    public static InputRecording read(Path path) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(path));
+        InputRecording recording;
+        try {
+            if (bytes.getInt() != InputRecorder.MAGIC) {
+                throw new IOException("Not an input recording: " + path);
+            }
+            int version = bytes.get();
+            if (version != InputRecorder.VERSION) {
+                throw new IOException("Unsupported input recording version " +
+                        version + ": " + path);
+            }
+            recording = new InputRecording(bytes.getLong(),
+                    new WorldBounds(bytes.getDouble(), bytes.getDouble()));
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Not an input recording: " + path);
+        }
+
+        try {
+            recording.readInputs(bytes);
+        } catch (BufferUnderflowException e) {
+            // Cut off, everything read so far stands
+        }
+        return recording;
+    }
+
+    private void readInputs(ByteBuffer bytes) throws IOException {
+        long tick = 0;
+        while (bytes.hasRemaining()) {
+            int code = bytes.get() & 0xFF;
+            int ordinal = code & 0xF;
+            if (ordinal == InputRecorder.END) {
+                endTick = bytes.getLong();
+                checksum = bytes.getLong();
+                complete = true;
+                return;
+            }
+            if (ordinal >= INPUTS.length) {
+                throw new IOException("Unknown input " + ordinal);
+            }
+            long gap = code >>> 4;
+            if (gap == InputRecorder.LONG_GAP) gap += getVarint(bytes);
+            tick += gap;
+            add(tick, INPUTS[ordinal]);
+        }
+    }
+
+    private static long getVarint(ByteBuffer bytes) {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = bytes.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+    }
+
+    private void add(long tick, Input input) {
+        if (size == ticks.length) {
+            ticks = Arrays.copyOf(ticks, size * 2);
+            inputs = Arrays.copyOf(inputs, size * 2);
+        }
+        ticks[size] = tick;
+        inputs[size] = input;
+        size++;
+        endTick = tick;
+    }
+
+    /**
+     * A new world like the one the session started in, keeping its history
+     * if the session rewound
+     */
+    public World createWorld() {
+        World world = new World(seed, bounds);
+        for (int i = 0; i < size; i++) {
+            if (inputs[i] == Input.REWIND) {
+                world.setHistory(new WorldHistory(world));
+                break;
+            }
+        }
+        return world;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public WorldBounds getBounds() {
+        return bounds;
+    }
+
+    /**
+     * Number of inputs recorded
+     */
+    public int size() {
+        return size;
+    }
+
+    public long getTick(int index) {
+        return ticks[index];
+    }
+
+    public Input getInput(int index) {
+        return inputs[index];
+    }
+
+    /**
+     * Tick count the session ended on, or of its last input if it was cut
+     * off
+     */
+    public long getEndTick() {
+        return endTick;
+    }
+
+    /**
+     * Whether the recording was closed properly, and so has a checksum
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * World.checksum() at the end of the session, only if it's complete
+     */
+    public long getChecksum() {
+        return checksum;
+    }
+}
@@ -0,0 +1,76 @@
+package rainmaker.replay;
+
+import rainmaker.GameLoop;
+import rainmaker.model.Input;
+
+import java.util.function.Consumer;
+
+/**
+ * Feeds an InputRecording back in, each input just before the tick it was
+ * recorded on, into a world created by the recording. Run it to the end as
+ * fast as possible with run(), or let a rendered game tick at its own pace
+ * with applyDue() set as its GameLoop's tick start.
+ * <p>
+ * Input is applied where the recording says, whatever the loop ends up
+ * doing, so a replay that diverges still plays all of it and only the
+ * checksum at the end shows the difference.
+ */
+public class InputReplay {
+    private final InputRecording recording;
+    private final GameLoop loop;
+    private final Consumer<Input> target;
+    private int next = 0;
+    private boolean finished = false;
+    private Runnable onFinished;
+
+    /**
+     * Input goes to the target, which applies it to the world the loop
+     * belongs to
+     */
+    public InputReplay(InputRecording recording, GameLoop loop,
+                       Consumer<Input> target) {
+        this.recording = recording;
+        this.loop = loop;
+        this.target = target;
+    }
+
+    /**
+     * The Runnable will be executed once the replay reaches the tick the
+     * session ended on
+     */
+    public void setOnFinished(Runnable onFinished) {
+        this.onFinished = onFinished;
+    }
+
+    /**
+     * Applies the input recorded up to the loop's current tick that hasn't
+     * been applied yet. Harmless to call any number of times.
+     */
+    public void applyDue() {
+        long tick = loop.getTickCount();
+        while (next < recording.size() && recording.getTick(next) <= tick) {
+            target.accept(recording.getInput(next++));
+        }
+        if (!finished && next == recording.size() &&
+                tick >= recording.getEndTick()) {
+            finished = true;
+            if (onFinished != null) onFinished.run();
+        }
+    }
+
+    /**
+     * Ticks the loop until the session's last tick, or until it stops and
+     * nothing recorded starts it again
+     */
+    public void run() {
+        while (true) {
+            applyDue();
+            if (finished || !loop.isRunning()) return;
+            loop.tick();
+        }
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+}
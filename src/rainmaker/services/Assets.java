@@ -0,0 +1,128 @@
+package rainmaker.services;
+
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+import javafx.scene.media.AudioClip;
+import javafx.scene.media.Media;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Every image and sound of the game, each decoded once and then shared by
+ * all the views that use it. preload() decodes them all up front on
+ * background threads, so nothing is read from disk once the game runs.
+ * Anything requested before it was preloaded is loaded on the spot.
+ * <p>
+ * Images are looked up on the class path, sounds are read from the
+ * resources folder.
+ */
+public final class Assets {
+    public static final String COPTER_BODY = "/copter_body.png";
+    public static final String COPTER_BLADES = "/copter_blades.png";
+    public static final String BLIMP_BODY = "/blimp_body_img.png";
+    public static final String BACKGROUND = "/desert_bg_img.jpg";
+    public static final int PROPELLER_FRAMES = 7;
+
+    public static final String SEEDING_SOUND =
+            "src/resources/cloud_seeding_sound.wav";
+    public static final String FLYING_SOUND =
+            "src/resources/copter_flying_hoovering.mp3";
+    public static final String TAKEOFF_SOUND =
+            "src/resources/takeoff_sound.wav";
+    public static final String LANDING_SOUND =
+            "src/resources/copter_landing_sound.mp3";
+    public static final String REFUEL_SOUND = "src/resources/refuel_sound.wav";
+    public static final String BLIMP_ENGINE_SOUND =
+            "src/resources/blimp_engine_sound.wav";
+    public static final String WIND_SOUND = "src/resources/wind_sound.wav";
+    public static final String RAIN_SOUND = "src/resources/rain_sound.wav";
+
+    private static final Map<String, Image> images = new ConcurrentHashMap<>();
+    private static final Map<String, Media> media = new ConcurrentHashMap<>();
+    private static final Map<String, AudioClip> clips =
+            new ConcurrentHashMap<>();
+
+    private Assets() {
+    }
+
+    public static Image image(String path) {
+        return images.computeIfAbsent(path, Image::new);
+    }
+
+    public static Image propellerFrame(int frame) {
+        return image("/resources/blimp_propeller/" + frame + ".png");
+    }
+
+    public static Media media(String file) {
+        return media.computeIfAbsent(file, f -> new Media(uri(f)));
+    }
+
+    /**
+     * For short sounds that are played many times and may overlap
+     */
+    public static AudioClip clip(String file) {
+        return clips.computeIfAbsent(file, f -> new AudioClip(uri(f)));
+    }
+
+    private static String uri(String file) {
+        return new File(file).toURI().toString();
+    }
+
+    /**
+     * Decodes every asset on a few background threads. The progress, from 0
+     * to 1, is reported on the FX thread after each asset. An asset that
+     * fails is reported on stderr and counted as done, it will fail again
+     * where it is used.
+     */
+    public static CompletableFuture<Void> preload(DoubleConsumer onProgress) {
+        List<Runnable> loaders = new ArrayList<>();
+        for (String path : List.of(COPTER_BODY, COPTER_BLADES, BLIMP_BODY,
+                BACKGROUND)) {
+            loaders.add(() -> image(path));
+        }
+        for (int i = 0; i < PROPELLER_FRAMES; i++) {
+            int frame = i;
+            loaders.add(() -> propellerFrame(frame));
+        }
+        for (String file : List.of(FLYING_SOUND, TAKEOFF_SOUND, LANDING_SOUND,
+                REFUEL_SOUND, BLIMP_ENGINE_SOUND, WIND_SOUND, RAIN_SOUND)) {
+            loaders.add(() -> media(file));
+        }
+        loaders.add(() -> clip(SEEDING_SOUND));
+
+        int threads = Math.min(4, Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(threads,
+                runnable -> {
+                    Thread thread = new Thread(runnable, "asset-preload");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        AtomicInteger done = new AtomicInteger();
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[loaders.size()];
+        for (int i = 0; i < loaders.size(); i++) {
+            Runnable loader = loaders.get(i);
+            tasks[i] = CompletableFuture.runAsync(() -> {
+                try {
+                    loader.run();
+                } catch (RuntimeException e) {
+                    System.err.println("Could not preload asset: " + e);
+                }
+                double progress = (double) done.incrementAndGet() /
+                        loaders.size();
+                Platform.runLater(() -> onProgress.accept(progress));
+            }, executor);
+        }
+        return CompletableFuture.allOf(tasks)
+                .whenComplete((result, error) -> executor.shutdown());
+    }
+}
@@ -0,0 +1,265 @@
+package rainmaker.services;
+
+import javafx.scene.media.MediaPlayer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Plays the game's looping sounds on a fixed pool of media players. Views
+ * don't own players, they ask for a Source and set how loud it should be
+ * every frame. The mixer then decides, a few times a second, which sources
+ * actually get one of the sound's voices: the highest priority ones first,
+ * the loudest among equals. A source that loses out keeps its volume and
+ * is picked up again as soon as a voice frees up.
+ * <p>
+ * Every player is created along with the mixer, so the number of native
+ * players never depends on how many things are making noise.
+ */
+public class AudioMixer {
+    // Volume changes smaller than this aren't worth a call into the player
+    private static final double VOLUME_EPSILON = 0.01;
+    private static final double CONTROL_INTERVAL = 0.1;
+
+    private final Map<String, Channel> channels = new HashMap<>();
+    private double elapsed = 0;
+
+    /**
+     * Mixer for all of the game's looping sounds, with as many voices for
+     * each as can reasonably be heard at once
+     */
+    public AudioMixer() {
+        addChannel(Assets.BLIMP_ENGINE_SOUND, 3);
+        addChannel(Assets.REFUEL_SOUND, 1);
+        addChannel(Assets.FLYING_SOUND, 1);
+        addChannel(Assets.WIND_SOUND, 1);
+        addChannel(Assets.RAIN_SOUND, 1);
+    }
+
+    private void addChannel(String sound, int voices) {
+        channels.put(sound, new Channel(sound, voices));
+    }
+
+    /**
+     * A new silent source of the given sound. Higher priorities win voices
+     * over lower ones regardless of volume.
+     */
+    public Source createSource(String sound, int priority) {
+        Channel channel = channels.get(sound);
+        if (channel == null) {
+            throw new IllegalArgumentException("No channel for " + sound);
+        }
+        Source source = new Source(channel, priority);
+        channel.sources.add(source);
+        return source;
+    }
+
+    /**
+     * Sources that haven't been released, over all sounds
+     */
+    public int getSourceCount() {
+        int count = 0;
+        for (Channel channel : channels.values()) {
+            count += channel.sources.size();
+        }
+        return count;
+    }
+
+    /**
+     * Voices playing a source right now, over all sounds
+     */
+    public int getVoicesInUse() {
+        int count = 0;
+        for (Channel channel : channels.values()) {
+            for (Voice voice : channel.voices) {
+                if (voice.source != null) count++;
+            }
+        }
+        return count;
+    }
+
+    public int getVoiceCount() {
+        int count = 0;
+        for (Channel channel : channels.values()) {
+            count += channel.voices.length;
+        }
+        return count;
+    }
+
+    /**
+     * Banks the given real time and hands out voices once per control
+     * interval
+     */
+    public void update(double elapsedSeconds) {
+        elapsed += elapsedSeconds;
+        if (elapsed < CONTROL_INTERVAL) return;
+        elapsed = 0;
+        for (Channel channel : channels.values()) {
+            channel.mix();
+        }
+    }
+
+    /**
+     * Stops and releases every player, the mixer can't be used afterwards
+     */
+    public void dispose() {
+        for (Channel channel : channels.values()) {
+            for (Voice voice : channel.voices) {
+                voice.player.stop();
+                voice.player.dispose();
+            }
+            channel.sources.clear();
+        }
+    }
+
+    public static class Source {
+        private final Channel channel;
+        private final int priority;
+        private double volume = 0;
+        private boolean playing = false;
+        private Voice voice;
+
+        private Source(Channel channel, int priority) {
+            this.channel = channel;
+            this.priority = priority;
+        }
+
+        /**
+         * Only takes effect at the mixer's next control update
+         */
+        public void setVolume(double volume) {
+            this.volume = Math.max(0, Math.min(1, volume));
+        }
+
+        public void setPlaying(boolean playing) {
+            this.playing = playing;
+        }
+
+        /**
+         * Gives up the source's voice, if it had one, and removes it from
+         * the mixer for good
+         */
+        public void release() {
+            if (voice != null) voice.silence();
+            channel.sources.remove(this);
+        }
+
+        private boolean isAudible() {
+            return playing && volume > 0;
+        }
+
+        /**
+         * Whether this source should get a voice before the other one
+         */
+        private boolean outranks(Source other) {
+            if (priority != other.priority) return priority > other.priority;
+            return volume > other.volume;
+        }
+    }
+
+    private static class Voice {
+        final MediaPlayer player;
+        Source source;
+        double volume = -1;
+
+        Voice(MediaPlayer player) {
+            this.player = player;
+        }
+
+        void assign(Source next) {
+            if (source != null) source.voice = null;
+            source = next;
+            next.voice = this;
+            if (player.getStatus() != MediaPlayer.Status.PLAYING) {
+                player.play();
+            }
+        }
+
+        void silence() {
+            if (source != null) source.voice = null;
+            source = null;
+            if (volume != 0) {
+                volume = 0;
+                player.setVolume(0);
+            }
+        }
+
+        void applyVolume() {
+            double target = source.volume;
+            if (Math.abs(target - volume) < VOLUME_EPSILON) return;
+            volume = target;
+            player.setVolume(target);
+        }
+    }
+
+    private static class Channel {
+        final ArrayList<Source> sources = new ArrayList<>();
+        final Voice[] voices;
+        // The sources that won a voice this update, best first
+        final Source[] winners;
+
+        Channel(String sound, int voiceCount) {
+            voices = new Voice[voiceCount];
+            winners = new Source[voiceCount];
+            for (int i = 0; i < voiceCount; i++) {
+                MediaPlayer player = new MediaPlayer(Assets.media(sound));
+                player.setCycleCount(MediaPlayer.INDEFINITE);
+                player.setVolume(0);
+                voices[i] = new Voice(player);
+            }
+        }
+
+        /**
+         * Picks the best audible sources, keeps the ones that already had a
+         * voice on it so their sound isn't restarted, and gives the freed
+         * voices to the rest. Players without a source are muted, not
+         * stopped, so starting them again is cheap.
+         */
+        void mix() {
+            int winnerCount = 0;
+            for (int i = 0; i < sources.size(); i++) {
+                Source source = sources.get(i);
+                if (!source.isAudible()) continue;
+
+                int slot = winnerCount;
+                while (slot > 0 && source.outranks(winners[slot - 1])) slot--;
+                if (slot == winners.length) continue;
+
+                int last = Math.min(winnerCount, winners.length - 1);
+                System.arraycopy(winners, slot, winners, slot + 1, last - slot);
+                winners[slot] = source;
+                if (winnerCount < winners.length) winnerCount++;
+            }
+
+            // Voices whose source didn't make it are stolen
+            for (Voice voice : voices) {
+                if (voice.source == null) continue;
+                if (!contains(winners, winnerCount, voice.source)) {
+                    voice.silence();
+                }
+            }
+
+            for (int i = 0; i < winnerCount; i++) {
+                Source winner = winners[i];
+                if (winner.voice == null) {
+                    for (Voice voice : voices) {
+                        if (voice.source != null) continue;
+                        voice.assign(winner);
+                        break;
+                    }
+                }
+                winner.voice.applyVolume();
+                winners[i] = null;
+            }
+        }
+
+        private static boolean contains(Source[] sources, int count,
+                                        Source source) {
+            for (int i = 0; i < count; i++) {
+                if (sources[i] == source) return true;
+            }
+            return false;
+        }
+    }
+}
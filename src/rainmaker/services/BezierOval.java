@@ -1,136 +1,285 @@
 package rainmaker.services;
 
-import javafx.geometry.Point2D;
-import javafx.scene.Group;
-import javafx.scene.paint.Color;
-import javafx.scene.shape.Circle;
-import javafx.scene.shape.Ellipse;
-import javafx.scene.shape.QuadCurve;
-
 import java.util.ArrayList;
-
-public class BezierOval extends Group {
-    private final Ellipse oval;
+import java.util.List;
+
+/**
+ * Geometry of an oval with quadratic bezier bumps around its edge, used for
+ * clouds and ponds. Pure data, BezierOvalView turns it into nodes.
+ * <p>
+ * Next to the curves, flattened versions are computed once when the oval is
+ * built and shared by everything that needs plain polygons: the oval and
+ * each bump as convex polygons for collisions, and the whole outline with
+ * the area it encloses. Curves are cut into as few straight segments as
+ * keep every point within FLATNESS of the real curve.
+ */
+public class BezierOval {
+    public static final int START_X = 0;
+    public static final int START_Y = 1;
+    public static final int CONTROL_X = 2;
+    public static final int CONTROL_Y = 3;
+    public static final int END_X = 4;
+    public static final int END_Y = 5;
+    // Furthest a flattened segment may be from the curve, in local units
+    public static final double FLATNESS = 0.5;
+
+    private final double radiusX;
+    private final double radiusY;
     private final ArrayList<Integer> angles = new ArrayList<>();
-    private final ArrayList<QuadCurve> quadCurves = new ArrayList<>();
+    // Each curve is {startX, startY, controlX, controlY, endX, endY}
+    private final ArrayList<double[]> quadCurves = new ArrayList<>();
+    private double minX;
+    private double minY;
+    private double maxX;
+    private double maxY;
+    // Polygons as {x0, y0, x1, y1, ...}
+    private double[] flatOval;
+    private final ArrayList<double[]> flatBumps = new ArrayList<>();
+    private double[] outline;
+    private double outlineArea;
 
     private BezierOval(double radiusX, double radiusY) {
-        oval = new Ellipse(radiusX, radiusY);
+        this.radiusX = radiusX;
+        this.radiusY = radiusY;
     }
 
 
-    private void createShape(int startAngle, int incrementMin,
-                             int incrementMax, int overlapAngle,
+    private void createShape(RandomGenerator random, int startAngle,
+                             int incrementMin, int incrementMax,
+                             int overlapAngle,
                              int minOffsetFromOval, int maxOffsetFromOval,
                              boolean randomizeControlAngle) {
         int angle = startAngle;
-        Point2D prevPoint = null;
+        boolean hasPrevPoint = false;
+        double prevX = 0;
+        double prevY = 0;
         while (angle <= 360 + startAngle + overlapAngle) {
 
-            double x = oval.getRadiusX() * Math.sin(Math.toRadians(angle));
-            double y = oval.getRadiusY() * Math.cos(Math.toRadians(angle));
-
-            Point2D currentPoint = new Point2D(x, y);
+            double x = radiusX * Math.sin(Math.toRadians(angle));
+            double y = radiusY * Math.cos(Math.toRadians(angle));
 
             angles.add(angle);
 
-            angle += RandomGenerator.getRandomInt(incrementMin, incrementMax);
+            angle += random.getRandomInt(incrementMin, incrementMax);
 
-            if (prevPoint == null) {
-                prevPoint = currentPoint;
+            if (!hasPrevPoint) {
+                hasPrevPoint = true;
+                prevX = x;
+                prevY = y;
                 continue;
             }
 
             int angle1 = angles.get(angles.size() - 1);
             int angle2 = angles.get(angles.size() - 2);
 
-            QuadCurve curve = new QuadCurve();
-            curve.setStartX(prevPoint.getX());
-            curve.setStartY(prevPoint.getY());
-            curve.setEndX(currentPoint.getX());
-            curve.setEndY(currentPoint.getY());
-
             double angleControlInDegrees = randomizeControlAngle ?
-                    RandomGenerator.getRandomDouble(angle1, angle2) :
+                    random.getRandomDouble(angle1, angle2) :
                     (angle1 + angle2) / 2;
 
             double angleControlInRadians =
                     Math.toRadians(angleControlInDegrees);
 
 
-            int offset = RandomGenerator.getRandomInt(minOffsetFromOval,
+            int offset = random.getRandomInt(minOffsetFromOval,
                     maxOffsetFromOval);
 
 
             // x = (a + alpha) * cos(theta)
-            double controlX = (oval.getRadiusX() + offset) *
+            double controlX = (radiusX + offset) *
                     Math.sin(angleControlInRadians);
             // y = (b + alpha) * sin(theta)
-            double controlY = (oval.getRadiusY() + offset) *
+            double controlY = (radiusY + offset) *
                     Math.cos(angleControlInRadians);
 
-            prevPoint = currentPoint;
+            quadCurves.add(new double[]{prevX, prevY, controlX, controlY, x,
+                    y});
+
+            prevX = x;
+            prevY = y;
+        }
+
+        computeBounds();
+        flatten();
+    }
 
-            curve.setControlX(controlX);
-            curve.setControlY(controlY);
-            quadCurves.add(curve);
+    private void flatten() {
+        double radius = Math.max(radiusX, radiusY);
+        // A chord of an arc spanning 2pi / n sits r * (1 - cos(pi / n)),
+        // at most r * pi^2 / (2 n^2), inside it
+        int segments = Math.max(8,
+                (int) Math.ceil(Math.PI * Math.sqrt(radius / (2 * FLATNESS))));
+        flatOval = new double[segments * 2];
+        for (int i = 0; i < segments; i++) {
+            double angle = 2 * Math.PI * i / segments;
+            flatOval[i * 2] = radiusX * Math.cos(angle);
+            flatOval[i * 2 + 1] = radiusY * Math.sin(angle);
         }
 
+        // The outline follows the bumps once around, the ones the overlap
+        // angle adds on top are left out of it
+        int firstAngle = angles.get(0);
+        ArrayList<double[]> outlineCurves = new ArrayList<>();
+        for (int i = 0; i < quadCurves.size(); i++) {
+            double[] bump = flattenCurve(quadCurves.get(i));
+            flatBumps.add(bump);
+            if (angles.get(i) < firstAngle + 360) outlineCurves.add(bump);
+        }
 
-        //this.shape = generateShape();
-        getChildren().add(oval);
-        getChildren().addAll(quadCurves);
+        // Every curve starts where the previous one ended, so only the first
+        // point of each is kept
+        int points = 0;
+        for (double[] bump : outlineCurves) points += bump.length / 2 - 1;
+        outline = new double[points * 2];
+        int index = 0;
+        for (double[] bump : outlineCurves) {
+            System.arraycopy(bump, 0, outline, index, bump.length - 2);
+            index += bump.length - 2;
+        }
+        outlineArea = polygonArea(outline);
     }
 
+    /**
+     * The curve as a polyline from its start to its end point. A quadratic
+     * bezier's second derivative is constant, 2 * (p0 - 2 p1 + p2), and a
+     * segment covering 1 / n of t is at most a quarter of its length over n^2
+     * away from the curve. At least two segments, so that the curve closed
+     * by its chord is still a polygon.
+     */
+    private static double[] flattenCurve(double[] curve) {
+        double ddx = curve[START_X] - 2 * curve[CONTROL_X] + curve[END_X];
+        double ddy = curve[START_Y] - 2 * curve[CONTROL_Y] + curve[END_Y];
+        double dd = Math.sqrt(ddx * ddx + ddy * ddy);
+        int segments = Math.max(2,
+                (int) Math.ceil(Math.sqrt(dd / (4 * FLATNESS))));
+
+        double[] points = new double[(segments + 1) * 2];
+        for (int i = 0; i <= segments; i++) {
+            double t = (double) i / segments;
+            double u = 1 - t;
+            points[i * 2] = u * u * curve[START_X] +
+                    2 * u * t * curve[CONTROL_X] + t * t * curve[END_X];
+            points[i * 2 + 1] = u * u * curve[START_Y] +
+                    2 * u * t * curve[CONTROL_Y] + t * t * curve[END_Y];
+        }
+        return points;
+    }
 
-    public void setFill(Color color) {
-        for (QuadCurve curve : quadCurves) {
-            curve.setFill(color);
+    /**
+     * Shoelace formula
+     */
+    private static double polygonArea(double[] polygon) {
+        double twiceArea = 0;
+        int count = polygon.length / 2;
+        for (int i = 0; i < count; i++) {
+            int next = (i + 1) % count;
+            twiceArea += polygon[i * 2] * polygon[next * 2 + 1] -
+                    polygon[next * 2] * polygon[i * 2 + 1];
         }
-        oval.setFill(color);
+        return Math.abs(twiceArea) / 2;
     }
 
-    public void setStroke(Color color) {
-        for (QuadCurve curve : quadCurves) {
-            curve.setStroke(color);
+    private void computeBounds() {
+        minX = -radiusX;
+        maxX = radiusX;
+        minY = -radiusY;
+        maxY = radiusY;
+        for (double[] curve : quadCurves) {
+            double[] rangeX = curveRange(curve[START_X], curve[CONTROL_X],
+                    curve[END_X]);
+            double[] rangeY = curveRange(curve[START_Y], curve[CONTROL_Y],
+                    curve[END_Y]);
+            minX = Math.min(minX, rangeX[0]);
+            maxX = Math.max(maxX, rangeX[1]);
+            minY = Math.min(minY, rangeY[0]);
+            maxY = Math.max(maxY, rangeY[1]);
         }
     }
 
-    public void setStrokeWidth(double width) {
-        for (QuadCurve curve : quadCurves) {
-            curve.setStrokeWidth(width);
+    /**
+     * Min and max of a quadratic bezier along one axis, found from its
+     * endpoints and the single point where its derivative is zero
+     */
+    private static double[] curveRange(double p0, double p1, double p2) {
+        double min = Math.min(p0, p2);
+        double max = Math.max(p0, p2);
+        double denominator = p0 - 2 * p1 + p2;
+        if (denominator != 0) {
+            double t = (p0 - p1) / denominator;
+            if (t > 0 && t < 1) {
+                double u = 1 - t;
+                double extreme = u * u * p0 + 2 * u * t * p1 + t * t * p2;
+                min = Math.min(min, extreme);
+                max = Math.max(max, extreme);
+            }
         }
+        return new double[]{min, max};
     }
 
+
     public double getRadiusX() {
-        return oval.getRadiusX();
+        return radiusX;
     }
 
     public double getRadiusY() {
-        return oval.getRadiusY();
+        return radiusY;
     }
 
+    public double getMinX() {
+        return minX;
+    }
 
-    public void showControlPoints() {
-        for (QuadCurve curve : quadCurves) {
-            Circle circle = new Circle(curve.getControlX(), curve.getControlY(),
-                    2);
-            circle.setFill(Color.RED);
-            getChildren().add(circle);
+    public double getMinY() {
+        return minY;
+    }
 
-            //draw a circle on the start and end points
-            Circle circle1 = new Circle(curve.getStartX(), curve.getStartY(),
-                    2);
-            circle1.setFill(Color.GREEN);
-            getChildren().add(circle1);
+    public double getMaxX() {
+        return maxX;
+    }
 
-            Circle circle2 = new Circle(curve.getEndX(), curve.getEndY(), 2);
-            circle2.setFill(Color.GREEN);
-            getChildren().add(circle2);
-        }
+    public double getMaxY() {
+        return maxY;
+    }
+
+    /**
+     * Curves as {startX, startY, controlX, controlY, endX, endY}, relative to
+     * the center of the oval. Not to be modified.
+     */
+    public List<double[]> getQuadCurves() {
+        return quadCurves;
+    }
+
+    /**
+     * The oval without its bumps as a convex polygon. Not to be modified.
+     */
+    public double[] getFlatOval() {
+        return flatOval;
+    }
+
+    /**
+     * One convex polygon per curve, the flattened curve closed by its chord,
+     * in the same order as getQuadCurves(). Not to be modified.
+     */
+    public List<double[]> getFlatBumps() {
+        return flatBumps;
+    }
+
+    /**
+     * Closed polyline once around the bumps, the last point connects back to
+     * the first. Not to be modified.
+     */
+    public double[] getOutline() {
+        return outline;
+    }
+
+    /**
+     * Area enclosed by the outline
+     */
+    public double getOutlineArea() {
+        return outlineArea;
     }
 
     public static class Builder {
+        private final RandomGenerator random;
         private final double radiusX;
         private final double radiusY;
         private int startAngle = 0;
@@ -141,7 +290,12 @@ public class BezierOval extends Group {
         private int maxOffsetFromOval = 0;
         private boolean randomizeControlAngle = false;
 
-        public Builder(double radiusX, double radiusY) {
+        /**
+         * The bumps are placed using the given generator
+         */
+        public Builder(RandomGenerator random, double radiusX,
+                       double radiusY) {
+            this.random = random;
             this.radiusX = radiusX;
             this.radiusY = radiusY;
         }
@@ -184,7 +338,7 @@ public class BezierOval extends Group {
 
         public BezierOval build() {
             BezierOval bezierOval = new BezierOval(radiusX, radiusY);
-            bezierOval.createShape(startAngle, angleIncrementMin,
+            bezierOval.createShape(random, startAngle, angleIncrementMin,
                     angleIncrementMax, overlapAngle, minOffsetFromOval,
                     maxOffsetFromOval, randomizeControlAngle);
 
@@ -0,0 +1,248 @@
+package rainmaker.services;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Structured diagnostics kept in a ring buffer and printed from a
+ * background thread, so whoever records something never waits on the
+ * console. A record is an Event with up to FIELDS numbers, the object it is
+ * about and the state that object was in. The slots are allocated up front
+ * and recording only copies into one, it never allocates.
+ * <p>
+ * Records below the level are dropped right away, as are records beyond
+ * the rate limit. When more records come in between two flushes than the
+ * buffer holds, the oldest are overwritten. Both are counted and reported
+ * with the next flush.
+ * <p>
+ * The level is read from the rainmaker.log system property (debug, info,
+ * warn or error, warn unless set to one of them). Safe to record into from
+ * any thread.
+ */
+public final class DiagnosticsLog {
+    public enum Level {
+        DEBUG, INFO, WARN, ERROR
+    }
+
+    /**
+     * What a record is about and the names of its numbers, created once and
+     * shared by every record of it
+     */
+    public static final class Event {
+        private final String name;
+        private final String[] fieldNames;
+
+        public Event(String name, String... fieldNames) {
+            if (fieldNames.length > FIELDS) {
+                throw new IllegalArgumentException("At most " + FIELDS +
+                        " fields, got " + fieldNames.length);
+            }
+            this.name = name;
+            this.fieldNames = fieldNames;
+        }
+    }
+
+    public static final int FIELDS = 8;
+    private static final int CAPACITY = 1024;
+    private static final int MAX_PER_SECOND = 50;
+    private static final long FLUSH_INTERVAL_MILLIS = 500;
+    private static final DateTimeFormatter TIME = DateTimeFormatter
+            .ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+    private static final DiagnosticsLog INSTANCE = new DiagnosticsLog(
+            CAPACITY, MAX_PER_SECOND, level(System.getProperty("rainmaker.log")),
+            System.err);
+
+    private static final class Slot {
+        long time;
+        Level level;
+        Event event;
+        Class<?> subjectClass;
+        int subjectId;
+        String state;
+        final double[] values = new double[FIELDS];
+
+        void copyFrom(Slot other) {
+            time = other.time;
+            level = other.level;
+            event = other.event;
+            subjectClass = other.subjectClass;
+            subjectId = other.subjectId;
+            state = other.state;
+            System.arraycopy(other.values, 0, values, 0, FIELDS);
+        }
+    }
+
+    private final Slot[] slots;
+    // Copies of the slots taken by the flush, formatted outside the lock
+    private final Slot[] drained;
+    private final int maxPerSecond;
+    private final PrintStream out;
+    private final StringBuilder line = new StringBuilder();
+    private volatile Level level;
+    // Guarded by this
+    private long written = 0;
+    private long read = 0;
+    private long overwritten = 0;
+    private long rateLimited = 0;
+    private long windowStart = 0;
+    private int inWindow = 0;
+
+    // Only the game's log, its thread and shutdown hook last as long as
+    // the process
+    private DiagnosticsLog(int capacity, int maxPerSecond, Level level,
+                           PrintStream out) {
+        slots = new Slot[capacity];
+        drained = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+            drained[i] = new Slot();
+        }
+        this.maxPerSecond = maxPerSecond;
+        this.level = level;
+        this.out = out;
+
+        ScheduledExecutorService flusher =
+                Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "diagnostics-log");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        flusher.scheduleWithFixedDelay(this::flush, FLUSH_INTERVAL_MILLIS,
+                FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush,
+                "diagnostics-log-exit"));
+    }
+
+    /**
+     * The game's log
+     */
+    public static DiagnosticsLog get() {
+        return INSTANCE;
+    }
+
+    /**
+     * WARN unless the name is one of the levels, a typo mustn't take the
+     * log down with it
+     */
+    private static Level level(String name) {
+        if (name == null) return Level.WARN;
+        try {
+            return Level.valueOf(name.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown log level " + name + ", using warn");
+            return Level.WARN;
+        }
+    }
+
+    public void setLevel(Level level) {
+        this.level = level;
+    }
+
+    /**
+     * Whether records of the level are kept, to skip working out what would
+     * go in them
+     */
+    public boolean isEnabled(Level level) {
+        return level.compareTo(this.level) >= 0;
+    }
+
+    /**
+     * Records the event about the subject, with as many of the values as the
+     * event has field names. The rest are ignored.
+     */
+    public void record(Level level, Event event, Object subject, String state,
+                       double v0, double v1, double v2, double v3,
+                       double v4, double v5, double v6, double v7) {
+        if (!isEnabled(level)) return;
+        long now = System.currentTimeMillis();
+
+        synchronized (this) {
+            if (now - windowStart >= 1000) {
+                windowStart = now;
+                inWindow = 0;
+            }
+            if (inWindow == maxPerSecond) {
+                rateLimited++;
+                return;
+            }
+            inWindow++;
+
+            if (written - read == slots.length) {
+                read++;
+                overwritten++;
+            }
+            Slot slot = slots[(int) (written++ % slots.length)];
+            slot.time = now;
+            slot.level = level;
+            slot.event = event;
+            slot.subjectClass = subject == null ? null : subject.getClass();
+            slot.subjectId = System.identityHashCode(subject);
+            slot.state = state;
+            double[] values = slot.values;
+            values[0] = v0;
+            values[1] = v1;
+            values[2] = v2;
+            values[3] = v3;
+            values[4] = v4;
+            values[5] = v5;
+            values[6] = v6;
+            values[7] = v7;
+        }
+    }
+
+    /**
+     * Prints whatever was recorded since the last flush. Runs on the log's
+     * own thread, and once more when the process exits.
+     */
+    public void flush() {
+        // Only one flush formats at a time, the drained copies are shared
+        synchronized (drained) {
+            int count;
+            long lost;
+            long limited;
+            synchronized (this) {
+                count = (int) (written - read);
+                for (int i = 0; i < count; i++) {
+                    drained[i].copyFrom(slots[(int) ((read + i) % slots.length)]);
+                }
+                read = written;
+                lost = overwritten;
+                limited = rateLimited;
+                overwritten = 0;
+                rateLimited = 0;
+            }
+
+            for (int i = 0; i < count; i++) {
+                format(drained[i]);
+                out.println(line);
+            }
+            if (lost > 0 || limited > 0) {
+                out.println("diagnostics: " + lost + " records overwritten, " +
+                        limited + " over the rate limit");
+            }
+            if (count > 0) out.flush();
+        }
+    }
+
+    private void format(Slot slot) {
+        line.setLength(0);
+        TIME.formatTo(Instant.ofEpochMilli(slot.time), line);
+        line.append(' ').append(slot.level).append(' ')
+                .append(slot.event.name);
+        if (slot.subjectClass != null) {
+            line.append(' ').append(slot.subjectClass.getSimpleName())
+                    .append('@').append(Integer.toHexString(slot.subjectId));
+        }
+        if (slot.state != null) line.append(" state=").append(slot.state);
+        String[] names = slot.event.fieldNames;
+        for (int i = 0; i < names.length; i++) {
+            line.append(' ').append(names[i]).append('=')
+                    .append(slot.values[i]);
+        }
+    }
+}
@@ -1,9 +1,7 @@
 package rainmaker.services;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
 import javafx.scene.input.KeyCode;
-import javafx.util.Duration;
+import rainmaker.Updatable;
 
 /**
  * A timer that fires an event when a key is pressed and held down for a
@@ -12,26 +10,21 @@ import javafx.util.Duration;
  * Purpose: To allow the helicopter acceleration/turning and cloud seeding to
  * feel consistent across different computers.
  */
-public class KeyPressTimer {
+public class KeyPressTimer implements Updatable {
 
-    private Timeline timeline;
+    private final double keyPressDelay;
     private KeyCode key;
     private boolean isPressed;
     private boolean justPressed = false;
+    private double elapsed = 0;
     Runnable keyPressAction;
 
     public KeyPressTimer(KeyCode key, long keyPressDelay) {
-        timeline = new Timeline(new KeyFrame(Duration.millis(keyPressDelay),
-                event -> {
-            if ((isPressed && keyPressAction != null) || justPressed) {
-                keyPressAction.run();
-                justPressed = false;
-            }
-        }));
-
-        timeline.setCycleCount(Timeline.INDEFINITE);
-        timeline.playFromStart();
-
+        if (keyPressDelay <= 0) {
+            throw new IllegalArgumentException("The delay has to be " +
+                    "positive, got " + keyPressDelay);
+        }
+        this.keyPressDelay = keyPressDelay / 1000.0;
         this.key = key;
 
         isPressed = false;
@@ -39,6 +32,25 @@ public class KeyPressTimer {
 
     }
 
+    /**
+     * Measures the interval in game time, so the key fires at the same rate
+     * as the rest of the simulation advances. Fires once for every interval
+     * that has elapsed, several times in one tick if the interval is shorter
+     * than a tick.
+     */
+    @Override
+    public void update(double frameTime) {
+        elapsed += frameTime;
+        while (elapsed >= keyPressDelay) {
+            elapsed -= keyPressDelay;
+
+            if ((isPressed && keyPressAction != null) || justPressed) {
+                keyPressAction.run();
+                justPressed = false;
+            }
+        }
+    }
+
     public KeyCode getKey() {
         return key;
     }
@@ -0,0 +1,103 @@
+package rainmaker.services;
+
+import java.util.Arrays;
+
+/**
+ * Counts durations in nanoseconds in a fixed set of buckets, eight per power
+ * of two, so any percentile is known to within an eighth of its value. All
+ * the buckets are allocated up front and recording only increments one, it
+ * never allocates.
+ * <p>
+ * Not thread safe, a histogram belongs to the thread recording into it.
+ */
+public class LatencyHistogram {
+    // Eight buckets per power of two, values below that are exact
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Enough powers of two for over half an hour
+    private static final int MAX_EXPONENT = 41;
+    private static final int BUCKETS =
+            SUB_BUCKETS + (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+    private final long[] counts = new long[BUCKETS];
+    private long count = 0;
+    private long sum = 0;
+    private long max = 0;
+
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        counts[bucket(nanos)]++;
+        count++;
+        sum += nanos;
+        if (nanos > max) max = nanos;
+    }
+
+    private static int bucket(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int exponent = Math.min(MAX_EXPONENT,
+                63 - Long.numberOfLeadingZeros(value));
+        int shift = exponent - SUB_BUCKET_BITS;
+        int mantissa = (int) Math.min(SUB_BUCKETS - 1,
+                (value >>> shift) - SUB_BUCKETS);
+        return SUB_BUCKETS + shift * SUB_BUCKETS + mantissa;
+    }
+
+    /**
+     * Largest value that falls into the bucket
+     */
+    private static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+        int shift = (bucket - SUB_BUCKETS) / SUB_BUCKETS;
+        int mantissa = (bucket - SUB_BUCKETS) % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + mantissa + 1) << shift) - 1;
+    }
+
+    /**
+     * The value the given share of recorded durations are at or below, as
+     * the top of its bucket and never more than the largest one recorded.
+     * Zero if nothing was recorded.
+     */
+    public long percentile(double percentile) {
+        if (count == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.min(max, upperBound(i));
+        }
+        return max;
+    }
+
+    /**
+     * How many recorded durations were at most the given one, counting a
+     * whole bucket once its top is within it
+     */
+    public long countAtOrBelow(long nanos) {
+        long seen = 0;
+        for (int i = 0; i < BUCKETS && upperBound(i) <= nanos; i++) {
+            seen += counts[i];
+        }
+        return seen;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * All the recorded durations added up
+     */
+    public long getSum() {
+        return sum;
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        sum = 0;
+        max = 0;
+    }
+}
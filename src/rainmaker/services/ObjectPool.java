@@ -0,0 +1,57 @@
+package rainmaker.services;
+
+import java.util.ArrayDeque;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Keeps released objects around to be handed out again instead of new ones.
+ * <p>
+ * Objects come back exactly as they were released, so whoever acquires one
+ * has to reset every bit of its state before using it. At most maxFree
+ * objects are kept, the ones released beyond that are handed to onDiscard
+ * and dropped.
+ * <p>
+ * Not thread safe, a pool belongs to the thread of the world or view using
+ * it.
+ */
+public class ObjectPool<T> {
+    private final ArrayDeque<T> free = new ArrayDeque<>();
+    private final Supplier<T> factory;
+    private final int maxFree;
+    private final Consumer<T> onDiscard;
+
+    public ObjectPool(Supplier<T> factory, int maxFree,
+                      Consumer<T> onDiscard) {
+        this.factory = factory;
+        this.maxFree = maxFree;
+        this.onDiscard = onDiscard;
+    }
+
+    public ObjectPool(Supplier<T> factory, int maxFree) {
+        this(factory, maxFree, object -> {});
+    }
+
+    /**
+     * A released object if there is one, a new one otherwise
+     */
+    public T acquire() {
+        T object = free.poll();
+        return object != null ? object : factory.get();
+    }
+
+    public void release(T object) {
+        if (free.size() < maxFree) {
+            free.push(object);
+        } else {
+            onDiscard.accept(object);
+        }
+    }
+
+    /**
+     * Objects waiting to be acquired again
+     */
+    public int getFreeCount() {
+        return free.size();
+    }
+}
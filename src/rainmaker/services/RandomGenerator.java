@@ -1,48 +1,114 @@
 package rainmaker.services;
 
-import javafx.geometry.Point2D;
+/**
+ * Seedable source of randomness. Every World owns its own generator and
+ * splits off one independent stream per subsystem, so a run can be repeated
+ * exactly from its seed and worlds running in parallel never share one.
+ * <p>
+ * The numbers are exactly those of java.util.SplittableRandom, whose
+ * algorithm (SplitMix64) is reimplemented here so that a generator's state
+ * can be saved and restored along with the rest of a world's.
+ * <p>
+ * Not thread safe, a generator belongs to the thread ticking its world.
+ */
+public class RandomGenerator {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private long seed;
+    // Odd, added to the seed for every number drawn
+    private long gamma;
 
-import java.util.Random;
+    public RandomGenerator(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
 
-public class RandomGenerator {
-    private static Random random = new Random();
+    private RandomGenerator(long seed, long gamma) {
+        this.seed = seed;
+        this.gamma = gamma;
+    }
+
+    /**
+     * A new generator whose numbers are independent of this one's. Splitting
+     * advances this generator, so streams split in the same order from the
+     * same seed are always the same.
+     */
+    public RandomGenerator split() {
+        return new RandomGenerator(nextLong(), mixGamma(nextSeed()));
+    }
 
-    public static int getRandomInt(int min, int max) {
-        return random.nextInt(max - min + 1) + min;
+    private long nextSeed() {
+        return seed += gamma;
     }
 
-    public static double getRandomDouble(double min, double max) {
-        return random.nextDouble() * (max - min) + min;
+    public long nextLong() {
+        return mix64(nextSeed());
     }
 
-    public static CoinSide flipCoin() {
-        return random.nextBoolean() ? CoinSide.HEADS : CoinSide.TAILS;
+    private int nextInt() {
+        return mix32(nextSeed());
     }
 
-    public static Point2D generateRandomBetween(Point2D start, Point2D end) {
-        return new Point2D(RandomGenerator.getRandomDouble(
-                start.getX(), end.getX()),
-                RandomGenerator.getRandomDouble(start.getY(), end.getY()));
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
     }
 
-    public static Point2D getRandomPointAroundLine(Point2D start, Point2D end
-            , double minDistance, double maxDistance, boolean aboveLine) {
-        double x1 = start.getX();
-        double y1 = start.getY();
-        double x2 = end.getX();
-        double y2 = end.getY();
+    private static int mix32(long z) {
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
 
-        double distance = RandomGenerator.getRandomDouble(minDistance, maxDistance);
-        double angle = Math.atan2(y2 - y1, x2 - x1);
-        if (aboveLine) {
-            angle += Math.PI / 2;
-        } else {
-            angle -= Math.PI / 2;
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        // Gammas with too few bit transitions make poor sequences
+        int transitions = Long.bitCount(z ^ (z >>> 1));
+        return transitions < 24 ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+
+    /**
+     * Uniform in [0, bound), rejecting the draws that would favour the low
+     * numbers
+     */
+    private int nextInt(int bound) {
+        int m = bound - 1;
+        int r = nextInt();
+        if ((bound & m) == 0) return r & m;
+        for (int u = r >>> 1; u + m - (r = u % bound) < 0;
+             u = nextInt() >>> 1) {
+            // Draw again
         }
+        return r;
+    }
 
-        double x = x1 + distance * Math.cos(angle);
-        double y = y1 + distance * Math.sin(angle);
+    private double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    public int getRandomInt(int min, int max) {
+        return nextInt(max - min + 1) + min;
+    }
+
+    public double getRandomDouble(double min, double max) {
+        return nextDouble() * (max - min) + min;
+    }
+
+    public CoinSide flipCoin() {
+        return nextInt() < 0 ? CoinSide.HEADS : CoinSide.TAILS;
+    }
+
+    public void save(StateVector out) {
+        out.putLong(seed);
+        out.putLong(gamma);
+    }
 
-        return new Point2D(x, y);
+    /**
+     * Continues from where the saved generator was, drawing the numbers it
+     * would have
+     */
+    public void restore(StateVector in) {
+        seed = in.getLong();
+        gamma = in.getLong();
     }
 }
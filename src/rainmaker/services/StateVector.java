@@ -0,0 +1,93 @@
+package rainmaker.services;
+
+import java.util.Arrays;
+
+/**
+ * State written out as a flat run of longs and read back in the same order,
+ * doubles by their exact bits. Whatever writes its state decides what the
+ * values mean, the vector only keeps them. Writing into a vector that was
+ * written before reuses its array, so once it has grown to fit nothing is
+ * allocated.
+ */
+public final class StateVector {
+    private long[] values = new long[256];
+    private int size = 0;
+    private int position = 0;
+
+    /**
+     * Empties the vector to be written again
+     */
+    public void clear() {
+        size = 0;
+        position = 0;
+    }
+
+    /**
+     * Starts reading from the first value again
+     */
+    public void rewind() {
+        position = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void putLong(long value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = value;
+    }
+
+    public void putDouble(double value) {
+        putLong(Double.doubleToRawLongBits(value));
+    }
+
+    public void putInt(int value) {
+        putLong(value);
+    }
+
+    public void putBoolean(boolean value) {
+        putLong(value ? 1 : 0);
+    }
+
+    public long getLong() {
+        if (position == size) {
+            throw new IllegalStateException("Read past the end of the state");
+        }
+        return values[position++];
+    }
+
+    public double getDouble() {
+        return Double.longBitsToDouble(getLong());
+    }
+
+    public int getInt() {
+        return (int) getLong();
+    }
+
+    public boolean getBoolean() {
+        return getLong() != 0;
+    }
+
+    /**
+     * The value at the index, for encoding the vector
+     */
+    public long get(int index) {
+        return values[index];
+    }
+
+    /**
+     * Replaces the contents with the given values, for decoding a vector
+     */
+    public void set(long[] values, int size) {
+        if (this.values.length < size) {
+            this.values = Arrays.copyOf(values, values.length);
+        } else {
+            System.arraycopy(values, 0, this.values, 0, size);
+        }
+        this.size = size;
+        position = 0;
+    }
+}
@@ -1,11 +1,12 @@
 package rainmaker.services;
 
 import javafx.scene.input.KeyCode;
+import rainmaker.Updatable;
 
 import java.util.ArrayList;
 import java.util.List;
 
-public class TimedKeysCollection {
+public class TimedKeysCollection implements Updatable {
     private List<KeyPressTimer> timers = new ArrayList<>();
     public TimedKeysCollection(KeyPressTimer... timers) {
         for (KeyPressTimer timer : timers) {
@@ -40,6 +41,13 @@ public class TimedKeysCollection {
         }
     }
 
+    @Override
+    public void update(double frameTime) {
+        for (KeyPressTimer timer : timers) {
+            timer.update(frameTime);
+        }
+    }
+
     public void keyReleased(KeyCode key) {
         for (KeyPressTimer timer : timers) {
             if (timer.getKey() == key) {
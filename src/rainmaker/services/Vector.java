@@ -3,21 +3,13 @@ package rainmaker.services;
 public class Vector {
     private final double x;
     private final double y;
-    private final double magnitude;
-    private final double angle;
 
     public Vector(double x, double y) {
         this.x = x;
         this.y = y;
-
-        magnitude = Math.sqrt(x * x + y * y);
-        angle = Math.atan2(y, x);
     }
 
     public Vector(double magnitude, double angle, boolean polar) {
-        this.magnitude = magnitude;
-        this.angle = angle;
-
         x = magnitude * Math.cos(angle);
         y = magnitude * Math.sin(angle);
     }
@@ -30,12 +22,15 @@ public class Vector {
         return y;
     }
 
+    /**
+     * Computed on every call, most vectors only ever have x and y read
+     */
     public double getMagnitude() {
-        return magnitude;
+        return Math.sqrt(x * x + y * y);
     }
 
     public double getAngle() {
-        return angle;
+        return Math.atan2(y, x);
     }
 
     public Vector add(Vector v) {
@@ -62,7 +57,7 @@ public class Vector {
     public String toString() {
         return String.format(
                 "Temp.Vector: (x: %.2f, y: %.2f, angle: %.2f, mag: %.2f)",
-                x, y, angle, magnitude
+                x, y, getAngle(), getMagnitude()
         );
     }
 